@@ -0,0 +1,55 @@
+package com.clockin.benchmarks;
+
+import com.clockin.dto.AdminSummaryResponse;
+import com.clockin.dto.CursorPage;
+import com.clockin.dto.EmployeeOverviewResponse;
+import com.clockin.dto.WeeklyReportResponse;
+import com.clockin.service.TimeEntryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admin dashboard reads at different history sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AdminQueryBenchmark {
+    
+    @Param({"1000", "100000", "1000000"})
+    public int entries;
+    
+    private ConfigurableApplicationContext context;
+    private TimeEntryService timeEntryService;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(entries);
+        timeEntryService = context.getBean(TimeEntryService.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public CursorPage<EmployeeOverviewResponse> allEmployeesFirstPage() {
+        return timeEntryService.getAllEmployeesData(null, null, false, null);
+    }
+    
+    @Benchmark
+    public AdminSummaryResponse adminSummary() {
+        return timeEntryService.getAdminSummary();
+    }
+    
+    @Benchmark
+    public WeeklyReportResponse employeeWeeklyData() {
+        return timeEntryService.getEmployeeWeeklyData(SyntheticData.firstName(1), SyntheticData.lastName(1), null, null);
+    }
+}
@@ -0,0 +1,92 @@
+package com.clockin.benchmarks;
+
+import com.clockin.EmployeeClockinApplication;
+import com.clockin.service.ActiveSessionRegistry;
+import com.clockin.service.DatabaseMigrations;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+/**
+ * Boots the application without a web server against a private in-memory H2 database
+ * and fills it with {@link SyntheticData}. Caching is switched off so the benchmarks
+ * measure the queries, not cache hits, unless a benchmark asks for the entity cache.
+ * Load tests get the full web application instead, caches included.
+ *
+ * {@link #startPostgres} runs the same setup against the PostgreSQL database in
+ * BENCH_DATABASE_URL, whose schema it creates and drops, for benchmarks of driver settings.
+ */
+final class BenchmarkContext {
+    
+    private BenchmarkContext() {}
+    
+    static ConfigurableApplicationContext start(int entries) {
+        return start(entries, false);
+    }
+    
+    static ConfigurableApplicationContext start(int entries, boolean entityCache) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeClockinApplication.class)
+                .web(WebApplicationType.NONE)
+                // Passed as arguments so they override application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.cache.type=none",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + entityCache,
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=" + entityCache,
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--clockin.active-sessions.reconcile-interval-ms=3600000");
+        return seed(context, entries);
+    }
+    
+    static ConfigurableApplicationContext startPostgres(int entries, String... profiles) {
+        String url = System.getenv("BENCH_DATABASE_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("Set BENCH_DATABASE_URL to a scratch PostgreSQL database, " +
+                    "e.g. jdbc:postgresql://localhost:5432/clockin_bench");
+        }
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeClockinApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profiles)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "--spring.datasource.username=" + System.getenv().getOrDefault("BENCH_DB_USERNAME", "postgres"),
+                        "--spring.datasource.password=" + System.getenv().getOrDefault("BENCH_DB_PASSWORD", ""),
+                        "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.cache.type=none",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--clockin.active-sessions.reconcile-interval-ms=3600000");
+        return seed(context, entries);
+    }
+    
+    // The full web application on a free port, with its caches, for load tests; the port is in
+    // local.server.port
+    static ConfigurableApplicationContext startServer(int entries) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeClockinApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run("--server.port=0",
+                        "--management.server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        return seed(context, entries);
+    }
+    
+    private static ConfigurableApplicationContext seed(ConfigurableApplicationContext context, int entries) {
+        SyntheticData.generate(context.getBean(JdbcTemplate.class), entries);
+        
+        // Same path a restart takes: link rows, rebuild the rollup, realign the id sequence
+        context.getBean(DatabaseMigrations.class).migrate();
+        context.getBean(ActiveSessionRegistry.class).reconcile();
+        return context;
+    }
+}
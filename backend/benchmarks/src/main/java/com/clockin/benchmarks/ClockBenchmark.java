@@ -0,0 +1,60 @@
+package com.clockin.benchmarks;
+
+import com.clockin.dto.TimeEntryResponse;
+import com.clockin.service.TenantContext;
+import com.clockin.service.TimeEntryService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clock-in followed by clock-out, cycling through employees who are not clocked in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ClockBenchmark {
+    
+    @Param({"1000", "100000"})
+    public int entries;
+    
+    private ConfigurableApplicationContext context;
+    private TimeEntryService timeEntryService;
+    private int employees;
+    private int next = 0;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(entries);
+        timeEntryService = context.getBean(TimeEntryService.class);
+        employees = SyntheticData.employeeCount(entries);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public void clockInThenOut(Blackhole blackhole) {
+        int employee;
+        do {
+            employee = next++ % employees + 1;
+        } while (SyntheticData.isActive(employee));
+        
+        String firstName = SyntheticData.firstName(employee);
+        String lastName = SyntheticData.lastName(employee);
+        // SyntheticData rows belong to the default site; outside it the clock-out would not see the session
+        TimeEntryResponse clockedIn = TenantContext.callAs(TenantContext.DEFAULT_TENANT,
+                () -> timeEntryService.clockIn(firstName, lastName));
+        TimeEntryResponse clockedOut = TenantContext.callAs(TenantContext.DEFAULT_TENANT,
+                () -> timeEntryService.clockOut(firstName, lastName));
+        blackhole.consume(clockedIn);
+        blackhole.consume(clockedOut);
+    }
+}
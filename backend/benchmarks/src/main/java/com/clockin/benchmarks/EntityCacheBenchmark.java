@@ -0,0 +1,68 @@
+package com.clockin.benchmarks;
+
+import com.clockin.dto.EmployeeDetailResponse;
+import com.clockin.model.Employee;
+import com.clockin.model.TimeEntry;
+import com.clockin.repository.TimeEntryRepository;
+import com.clockin.service.EmployeeService;
+import com.clockin.service.TimeEntryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeated reads of the same employees and entries, with Hibernate's second-level and query
+ * cache off and on. Cycles through a hot set small enough to stay cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EntityCacheBenchmark {
+    
+    private static final int HOT_SET = 200;
+    
+    @Param({"false", "true"})
+    public boolean entityCache;
+    
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private TimeEntryService timeEntryService;
+    private TimeEntryRepository timeEntryRepository;
+    private int next = 0;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(100_000, entityCache);
+        employeeService = context.getBean(EmployeeService.class);
+        timeEntryService = context.getBean(TimeEntryService.class);
+        timeEntryRepository = context.getBean(TimeEntryRepository.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Optional<Employee> employeeByName() {
+        int employee = next++ % HOT_SET + 1;
+        return employeeService.findEmployee(SyntheticData.firstName(employee), SyntheticData.lastName(employee));
+    }
+    
+    @Benchmark
+    public Optional<TimeEntry> entryById() {
+        return timeEntryRepository.findById((long) (next++ % HOT_SET + 1));
+    }
+    
+    @Benchmark
+    public EmployeeDetailResponse employeeDetailSummary() {
+        int employee = next++ % HOT_SET + 1;
+        return timeEntryService.getEmployeeDetail(SyntheticData.firstName(employee), SyntheticData.lastName(employee),
+                null, null, true);
+    }
+}
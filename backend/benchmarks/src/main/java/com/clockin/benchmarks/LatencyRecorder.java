@@ -0,0 +1,41 @@
+package com.clockin.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Every latency and error seen for one endpoint during a load run.
+ */
+final class LatencyRecorder {
+    
+    private final List<Long> latencies = new ArrayList<>();
+    private final AtomicLong errors = new AtomicLong();
+    
+    synchronized void record(long nanos, boolean ok) {
+        latencies.add(nanos);
+        if (!ok) {
+            errors.incrementAndGet();
+        }
+    }
+    
+    synchronized long[] sorted() {
+        long[] result = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(result);
+        return result;
+    }
+    
+    long errors() {
+        return errors.get();
+    }
+    
+    // In milliseconds; quantile 1.0 is the maximum
+    static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
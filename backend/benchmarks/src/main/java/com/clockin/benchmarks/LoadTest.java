@@ -0,0 +1,152 @@
+package com.clockin.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shift-change load against a running backend: many employees clocking in and out
+ * while a few admins pull the full export. Prints throughput and latency percentiles
+ * per endpoint so thread models can be compared run against run. The reactive profile
+ * has no export, so compare it with the servlet stack using
+ * {@code --admin-path /api/admin/all-employees} on both.
+ *
+ * <pre>
+ * mvn compile && java -cp target/classes com.clockin.benchmarks.LoadTest \
+ *     --url http://localhost:8080 --clockers 400 --exporters 4 --seconds 30
+ * </pre>
+ */
+public class LoadTest {
+    
+    private static final String ACCESS_CODE = "777";
+    private static final String ADMIN_ACCESS_CODE = "888";
+    
+    private final String baseUrl;
+    private final int clockers;
+    private final int exporters;
+    private final String adminPath;
+    private final Duration duration;
+    
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newFixedThreadPool(4))
+            .build();
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    
+    LoadTest(String baseUrl, int clockers, int exporters, String adminPath, Duration duration) {
+        this.baseUrl = baseUrl;
+        this.clockers = clockers;
+        this.exporters = exporters;
+        this.adminPath = adminPath;
+        this.duration = duration;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        String url = "http://localhost:8080";
+        int clockers = 400;
+        int exporters = 4;
+        String adminPath = "/api/admin/all-employees/export";
+        int seconds = 30;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url" -> url = args[i + 1];
+                case "--clockers" -> clockers = Integer.parseInt(args[i + 1]);
+                case "--exporters" -> exporters = Integer.parseInt(args[i + 1]);
+                case "--admin-path" -> adminPath = args[i + 1];
+                case "--seconds" -> seconds = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        new LoadTest(url, clockers, exporters, adminPath, Duration.ofSeconds(seconds)).run();
+    }
+    
+    void run() throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(clockers + exporters);
+        CountDownLatch done = new CountDownLatch(clockers + exporters);
+        
+        for (int i = 0; i < clockers; i++) {
+            String body = "{\"firstName\":\"Load\",\"lastName\":\"Employee" + i + "\",\"accessCode\":\"" + ACCESS_CODE + "\"}";
+            workers.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        post("clock-in", "/api/time-entries/clock-in", body);
+                        post("clock-out", "/api/time-entries/clock-out", body);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        String adminName = adminPath.substring(adminPath.lastIndexOf('/') + 1);
+        for (int i = 0; i < exporters; i++) {
+            workers.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        get(adminName, adminPath + "?accessCode=" + ADMIN_ACCESS_CODE);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        
+        done.await();
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+        report();
+        System.exit(0);
+    }
+    
+    private void post(String name, String path, String body) {
+        send(name, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+    
+    private void get(String name, String path) {
+        send(name, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build());
+    }
+    
+    private void send(String name, HttpRequest request) {
+        LatencyRecorder recorder = recorders.computeIfAbsent(name, k -> new LatencyRecorder());
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            // A 409 on clock-in only means the previous clock-out lost a race; it was still served
+            recorder.record(System.nanoTime() - start, response.statusCode() < 500);
+        } catch (Exception e) {
+            recorder.record(System.nanoTime() - start, false);
+        }
+    }
+    
+    private void report() {
+        double seconds = duration.toMillis() / 1000.0;
+        System.out.printf("%-10s %9s %9s %9s %9s %9s %9s %7s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors");
+        recorders.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    long[] latencies = entry.getValue().sorted();
+                    System.out.printf("%-10s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %7d%n",
+                            entry.getKey(), latencies.length, latencies.length / seconds,
+                            LatencyRecorder.percentile(latencies, 0.50), LatencyRecorder.percentile(latencies, 0.95),
+                            LatencyRecorder.percentile(latencies, 0.99), LatencyRecorder.percentile(latencies, 1.0),
+                            entry.getValue().errors());
+                });
+    }
+}
@@ -0,0 +1,115 @@
+package com.clockin.benchmarks;
+
+import com.clockin.dto.PunchRequest;
+import com.clockin.dto.PunchResult;
+import com.clockin.dto.TimeEntryResponse;
+import com.clockin.service.TenantContext;
+import com.clockin.service.TimeEntryService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clock-in throughput, a batch of punches and the full-table admin export on PostgreSQL. The
+ * profiles parameter names extra Spring profiles, comma-separated, so a tuning candidate can be
+ * measured against the defaults, e.g. {@code -p profiles=,candidate}. Needs BENCH_DATABASE_URL;
+ * see {@link BenchmarkContext#startPostgres}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PostgresTuningBenchmark {
+    
+    @Param({""})
+    public String profiles;
+    
+    @Param({"100000"})
+    public int entries;
+    
+    // Two punches each: the journal's default batch of 500
+    private static final int BATCH_EMPLOYEES = 250;
+    
+    private ConfigurableApplicationContext context;
+    private TimeEntryService timeEntryService;
+    private int employees;
+    private int next = 0;
+    private int nextInBatch = 0;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.startPostgres(entries, profiles.isBlank() ? new String[0] : profiles.split(","));
+        timeEntryService = context.getBean(TimeEntryService.class);
+        employees = SyntheticData.employeeCount(entries);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void clockInThenOut(Blackhole blackhole) {
+        int employee;
+        do {
+            employee = next++ % employees + 1;
+        } while (SyntheticData.isActive(employee));
+        
+        String firstName = SyntheticData.firstName(employee);
+        String lastName = SyntheticData.lastName(employee);
+        TimeEntryResponse clockedIn = TenantContext.callAs(TenantContext.DEFAULT_TENANT,
+                () -> timeEntryService.clockIn(firstName, lastName));
+        TimeEntryResponse clockedOut = TenantContext.callAs(TenantContext.DEFAULT_TENANT,
+                () -> timeEntryService.clockOut(firstName, lastName));
+        blackhole.consume(clockedIn);
+        blackhole.consume(clockedOut);
+    }
+    
+    // A full journal flush: BATCH_EMPLOYEES employees each clock in and out, written with JDBC batches
+    // in one transaction as PunchJournalFlusher and POST /api/time-entries/batch do
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void applyPunchBatch(Blackhole blackhole) {
+        // In the past, since future punches are rejected
+        LocalDateTime clockIn = LocalDateTime.now().minusHours(2).withNano(0);
+        List<PunchRequest> punches = new ArrayList<>();
+        for (int i = 0; i < BATCH_EMPLOYEES; i++) {
+            int employee;
+            do {
+                employee = nextInBatch++ % employees + 1;
+            } while (SyntheticData.isActive(employee));
+            String firstName = SyntheticData.firstName(employee);
+            String lastName = SyntheticData.lastName(employee);
+            punches.add(new PunchRequest(firstName, lastName, PunchRequest.CLOCK_IN, clockIn));
+            punches.add(new PunchRequest(firstName, lastName, PunchRequest.CLOCK_OUT, clockIn.plusMinutes(30)));
+        }
+        
+        List<PunchResult> results = TenantContext.callAs(TenantContext.DEFAULT_TENANT,
+                () -> timeEntryService.applyPunches(punches));
+        // A rejected punch writes nothing, which would flatter the timing
+        for (PunchResult result : results) {
+            if (!PunchResult.ACCEPTED.equals(result.getStatus())) {
+                throw new IllegalStateException("Punch rejected: " + result.getError());
+            }
+        }
+        blackhole.consume(results);
+    }
+    
+    // Every entry of every employee, as GET /api/admin/all-employees/export writes it
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void exportAllEmployees() throws IOException {
+        timeEntryService.exportAllEmployeesData(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,238 @@
+package com.clockin.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The morning shift change: every employee arrives once within the ramp, logs in, checks their
+ * status and clocks in, or out if the night shift left them clocked in, while admins keep the
+ * dashboard open and refresh it. Prints throughput, latency percentiles and error rates per
+ * endpoint and exits with status 1 when any endpoint misses a threshold, so a build running it
+ * fails.
+ *
+ * Without --url it boots the backend on a free port against in-memory H2, seeded with
+ * {@link SyntheticData} history; with --url it drives an already running backend.
+ *
+ * <pre>
+ * mvn -Pload-test verify -Dloadtest.args="--employees 500 --ramp-seconds 120 --max-p99-ms 2000"
+ * </pre>
+ */
+public class ShiftChangeLoadTest {
+    
+    private static final String ACCESS_CODE = "777";
+    private static final String ADMIN_ACCESS_CODE = "888";
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newFixedThreadPool(4))
+            .build();
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    
+    private String baseUrl;
+    private int entries = 100_000;
+    private int employees = -1;
+    private int rampSeconds = 120;
+    private int concurrency = 200;
+    private int admins = 5;
+    private int adminIntervalMs = 2000;
+    private double maxP95Ms = 1000;
+    private double maxP99Ms = 2000;
+    private double maxErrorRate = 0.01;
+    
+    public static void main(String[] args) throws Exception {
+        ShiftChangeLoadTest test = new ShiftChangeLoadTest();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--url" -> test.baseUrl = value;
+                case "--entries" -> test.entries = Integer.parseInt(value);
+                case "--employees" -> test.employees = Integer.parseInt(value);
+                case "--ramp-seconds" -> test.rampSeconds = Integer.parseInt(value);
+                case "--concurrency" -> test.concurrency = Integer.parseInt(value);
+                case "--admins" -> test.admins = Integer.parseInt(value);
+                case "--admin-interval-ms" -> test.adminIntervalMs = Integer.parseInt(value);
+                case "--max-p95-ms" -> test.maxP95Ms = Double.parseDouble(value);
+                case "--max-p99-ms" -> test.maxP99Ms = Double.parseDouble(value);
+                case "--max-error-rate" -> test.maxErrorRate = Double.parseDouble(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        System.exit(test.run() ? 0 : 1);
+    }
+    
+    boolean run() throws InterruptedException {
+        ConfigurableApplicationContext context = null;
+        if (baseUrl == null) {
+            context = BenchmarkContext.startServer(entries);
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+        if (employees < 0) {
+            employees = SyntheticData.employeeCount(entries);
+        }
+        
+        try {
+            long elapsedNanos = burst();
+            return report(elapsedNanos / 1_000_000_000.0);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+    
+    // Arrivals are spread evenly over the ramp whether or not earlier employees are done, as at a real
+    // time clock; at most `concurrency` of them are being served at once
+    private long burst() throws InterruptedException {
+        ExecutorService arrivals = Executors.newFixedThreadPool(concurrency);
+        ScheduledExecutorService schedule = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch arrived = new CountDownLatch(employees);
+        long start = System.nanoTime();
+        
+        for (int i = 0; i < employees; i++) {
+            int employee = i + 1;
+            long delayMillis = (long) rampSeconds * 1000 * i / Math.max(1, employees);
+            schedule.schedule(() -> arrivals.execute(() -> {
+                try {
+                    arrive(employee);
+                } finally {
+                    arrived.countDown();
+                }
+            }), delayMillis, TimeUnit.MILLISECONDS);
+        }
+        
+        List<Thread> adminThreads = new ArrayList<>();
+        for (int i = 0; i < admins; i++) {
+            Thread admin = new Thread(() -> watchDashboard(arrived));
+            admin.start();
+            adminThreads.add(admin);
+        }
+        
+        arrived.await();
+        long elapsed = System.nanoTime() - start;
+        for (Thread admin : adminThreads) {
+            admin.join();
+        }
+        schedule.shutdown();
+        arrivals.shutdown();
+        arrivals.awaitTermination(1, TimeUnit.MINUTES);
+        return elapsed;
+    }
+    
+    private void arrive(int employee) {
+        String firstName = SyntheticData.firstName(employee);
+        String lastName = SyntheticData.lastName(employee);
+        String body = "{\"firstName\":\"" + firstName + "\",\"lastName\":\"" + lastName
+                + "\",\"accessCode\":\"" + ACCESS_CODE + "\"}";
+        
+        JsonNode login = post("login", "/api/time-entries/login", body);
+        if (login == null) {
+            return;
+        }
+        get("status", "/api/time-entries/status/" + firstName + "/" + lastName + "?accessCode=" + ACCESS_CODE);
+        if (login.path("currentStatus").path("isActive").asBoolean(false)) {
+            post("clock-out", "/api/time-entries/clock-out", body);
+        } else {
+            post("clock-in", "/api/time-entries/clock-in", body);
+        }
+    }
+    
+    // What AdminView loads on each refresh, repeated until the last employee has arrived
+    private void watchDashboard(CountDownLatch arrived) {
+        try {
+            do {
+                get("admin-summary", "/api/admin/summary?accessCode=" + ADMIN_ACCESS_CODE);
+                get("admin-employees", "/api/admin/all-employees?accessCode=" + ADMIN_ACCESS_CODE);
+                get("admin-alerts", "/api/admin/alerts?accessCode=" + ADMIN_ACCESS_CODE);
+            } while (!arrived.await(adminIntervalMs, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private JsonNode post(String name, String path, String body) {
+        return send(name, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+    
+    private JsonNode get(String name, String path) {
+        return send(name, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build());
+    }
+    
+    // Every employee acts once and from a known state, so unlike LoadTest any 4xx is an error too
+    private JsonNode send(String name, HttpRequest request) {
+        LatencyRecorder recorder = recorders.computeIfAbsent(name, k -> new LatencyRecorder());
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean ok = response.statusCode() < 400;
+            recorder.record(System.nanoTime() - start, ok);
+            return ok && !response.body().isEmpty() ? objectMapper.readTree(response.body()) : null;
+        } catch (Exception e) {
+            recorder.record(System.nanoTime() - start, false);
+            return null;
+        }
+    }
+    
+    private boolean report(double seconds) {
+        System.out.printf("%d employees over %d s, %d admins every %d ms, %.1f s elapsed%n",
+                employees, rampSeconds, admins, adminIntervalMs, seconds);
+        System.out.printf("%-16s %9s %9s %9s %9s %9s %9s %8s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors");
+        
+        List<String> failures = new ArrayList<>();
+        recorders.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    String name = entry.getKey();
+                    long[] latencies = entry.getValue().sorted();
+                    double p95 = LatencyRecorder.percentile(latencies, 0.95);
+                    double p99 = LatencyRecorder.percentile(latencies, 0.99);
+                    double errorRate = latencies.length == 0 ? 0.0 : (double) entry.getValue().errors() / latencies.length;
+                    System.out.printf("%-16s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %7.2f%%%n",
+                            name, latencies.length, latencies.length / seconds,
+                            LatencyRecorder.percentile(latencies, 0.50), p95, p99,
+                            LatencyRecorder.percentile(latencies, 1.0), errorRate * 100);
+                    
+                    if (p95 > maxP95Ms) {
+                        failures.add(String.format("%s p95 %.1f ms > %.1f ms", name, p95, maxP95Ms));
+                    }
+                    if (p99 > maxP99Ms) {
+                        failures.add(String.format("%s p99 %.1f ms > %.1f ms", name, p99, maxP99Ms));
+                    }
+                    if (errorRate > maxErrorRate) {
+                        failures.add(String.format("%s error rate %.2f%% > %.2f%%", name, errorRate * 100, maxErrorRate * 100));
+                    }
+                });
+        
+        if (failures.isEmpty()) {
+            System.out.println("PASS: every endpoint within thresholds");
+            return true;
+        }
+        failures.forEach(failure -> System.out.println("FAIL: " + failure));
+        return false;
+    }
+}
@@ -0,0 +1,79 @@
+package com.clockin.benchmarks;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic time-entry history: one shift per employee per day going back from
+ * yesterday, with every tenth employee currently clocked in.
+ */
+final class SyntheticData {
+    
+    static final int ENTRIES_PER_EMPLOYEE = 200;
+    static final int ACTIVE_EVERY = 10;
+    
+    private static final int BATCH_SIZE = 5_000;
+    
+    private SyntheticData() {}
+    
+    static int employeeCount(int entries) {
+        return Math.max(10, entries / ENTRIES_PER_EMPLOYEE);
+    }
+    
+    static String firstName(int employee) {
+        return "First" + employee;
+    }
+    
+    static String lastName(int employee) {
+        return "Last" + employee;
+    }
+    
+    static boolean isActive(int employee) {
+        return employee % ACTIVE_EVERY == 0;
+    }
+    
+    static void generate(JdbcTemplate jdbcTemplate, int entries) {
+        int employees = employeeCount(entries);
+        
+        // The table is new, so its identity column numbers them 1..employees on H2 and PostgreSQL alike
+        List<Object[]> employeeRows = new ArrayList<>(employees);
+        for (int employee = 1; employee <= employees; employee++) {
+            employeeRows.add(new Object[] {firstName(employee), lastName(employee)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employees (first_name, last_name) VALUES (?, ?)", employeeRows);
+        
+        String insert = "INSERT INTO time_entries (id, employee_id, first_name, last_name, clock_in_time, " +
+                "clock_out_time, total_hours, is_active, active_employee_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        LocalDate today = LocalDate.now();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long id = 0;
+        
+        for (int employee = 1; employee <= employees; employee++) {
+            // Spread the remainder over the first employees so the total matches exactly
+            int count = entries / employees + (employee <= entries % employees ? 1 : 0);
+            for (int day = 0; day < count; day++) {
+                boolean open = day == 0 && isActive(employee);
+                LocalDateTime clockIn = (open ? today : today.minusDays(day + 1L))
+                        .atTime(7 + employee % 3, (employee * 7) % 60);
+                LocalDateTime clockOut = open ? null : clockIn.plusMinutes(420 + (employee + day) % 120);
+                Double hours = open ? null : Math.round((420 + (employee + day) % 120) / 60.0 * 100.0) / 100.0;
+                
+                batch.add(new Object[] {++id, employee, firstName(employee), lastName(employee),
+                        Timestamp.valueOf(clockIn), clockOut != null ? Timestamp.valueOf(clockOut) : null,
+                        hours, open, open ? (long) employee : null});
+                if (batch.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(insert, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(insert, batch);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.clockin.benchmarks;
+
+import com.clockin.service.WorkCalendar;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bucketing a history of clock-ins into weeks and weekdays with hours per bucket. stringKeys is
+ * how the weekly report used to do it: a formatted week key per entry, a freshly built formatter
+ * each time, and weekdays ordered through their display names. calendarKeys uses WorkCalendar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkCalendarBenchmark {
+    
+    @Param({"1000", "100000"})
+    public int entries;
+    
+    private final WorkCalendar workCalendar = new WorkCalendar(DayOfWeek.MONDAY, "UTC");
+    private LocalDateTime[] clockIns;
+    private double[] hours;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Two shifts a day, newest first, like the repository returns them
+        LocalDateTime latest = LocalDateTime.of(2024, 6, 30, 8, 0);
+        clockIns = new LocalDateTime[entries];
+        hours = new double[entries];
+        for (int i = 0; i < entries; i++) {
+            clockIns[i] = latest.minusHours(12L * i);
+            hours[i] = 4.0 + (i % 5);
+        }
+    }
+    
+    @Benchmark
+    public List<double[]> calendarKeys() {
+        List<double[]> weeks = new ArrayList<>();
+        long currentWeek = Long.MIN_VALUE;
+        double[] weekdays = null;
+        for (int i = 0; i < clockIns.length; i++) {
+            LocalDate date = clockIns[i].toLocalDate();
+            long week = workCalendar.weekKey(date);
+            if (week != currentWeek) {
+                currentWeek = week;
+                weekdays = new double[WorkCalendar.DAYS_PER_WEEK];
+                weeks.add(weekdays);
+            }
+            weekdays[workCalendar.weekdayIndex(date)] += hours[i];
+        }
+        return weeks;
+    }
+    
+    @Benchmark
+    public Map<String, List<Map.Entry<String, Double>>> stringKeys() {
+        Map<String, Map<String, Double>> weeks = new TreeMap<>();
+        for (int i = 0; i < clockIns.length; i++) {
+            String weekKey = clockIns[i].toLocalDate().atStartOfDay().with(DayOfWeek.MONDAY)
+                    .format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+            String weekday = clockIns[i].getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+            weeks.computeIfAbsent(weekKey, k -> new HashMap<>()).merge(weekday, hours[i], Double::sum);
+        }
+        
+        Map<String, List<Map.Entry<String, Double>>> result = new TreeMap<>();
+        for (Map.Entry<String, Map<String, Double>> week : weeks.entrySet()) {
+            LocalDateTime startOfWeek = LocalDateTime.parse(week.getKey() + "T00:00:00");
+            String label = startOfWeek.format(DateTimeFormatter.ofPattern("MMM dd")) + " - "
+                    + startOfWeek.plusDays(6).format(DateTimeFormatter.ofPattern("MMM dd, yyyy"));
+            List<Map.Entry<String, Double>> days = new ArrayList<>(week.getValue().entrySet());
+            days.sort((a, b) -> Integer.compare(weekdayOrder(a.getKey()), weekdayOrder(b.getKey())));
+            result.put(label, days);
+        }
+        return result;
+    }
+    
+    private static int weekdayOrder(String weekday) {
+        Map<String, Integer> weekdayOrder = Map.of(
+                "Monday", 1,
+                "Tuesday", 2,
+                "Wednesday", 3,
+                "Thursday", 4,
+                "Friday", 5,
+                "Saturday", 6,
+                "Sunday", 7
+        );
+        return weekdayOrder.getOrDefault(weekday, 0);
+    }
+}
@@ -0,0 +1,55 @@
+package com.clockin.service;
+
+import com.clockin.dto.TimeEntryResponse;
+import com.clockin.model.Employee;
+import com.clockin.model.TimeEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-response mapping used by every read endpoint. Lives in the service
+ * package to reach the package-private mapper without a Spring context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeEntryMappingBenchmark {
+    
+    @Param({"50", "1000"})
+    public int size;
+    
+    private final TimeEntryService timeEntryService = new TimeEntryService();
+    private List<TimeEntry> timeEntries;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        Employee employee = new Employee("Jane", "Doe");
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 8, 0);
+        timeEntries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TimeEntry entry = new TimeEntry(employee);
+            entry.setId((long) i + 1);
+            entry.setClockInTime(start.plusDays(i));
+            entry.setClockOutTime(start.plusDays(i).plusHours(8));
+            entry.setTotalHours(8.0);
+            entry.setIsActive(false);
+            timeEntries.add(entry);
+        }
+    }
+    
+    @Benchmark
+    public List<TimeEntryResponse> convertToResponse() {
+        List<TimeEntryResponse> responses = new ArrayList<>(timeEntries.size());
+        for (TimeEntry entry : timeEntries) {
+            responses.add(timeEntryService.convertToResponse(entry));
+        }
+        return responses;
+    }
+}
@@ -1,18 +1,30 @@
 package com.clockin;
 
+import com.clockin.service.TenantContext;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @SpringBootApplication
+@EnableCaching
+@EnableScheduling
 public class EmployeeClockinApplication {
-
+    
     public static void main(String[] args) {
         SpringApplication.run(EmployeeClockinApplication.class, args);
     }
-
+    
+    // Async request work, such as streamed exports, runs as the tenant of the request that started it
+    @Bean
+    public TaskDecorator tenantTaskDecorator() {
+        return TenantContext::wrap;
+    }
+    
     @Bean
     public WebMvcConfigurer corsConfigurer() {
         return new WebMvcConfigurer() {
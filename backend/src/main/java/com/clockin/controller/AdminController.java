@@ -1,18 +1,49 @@
 package com.clockin.controller;
 
+import com.clockin.dto.AdminSummaryResponse;
+import com.clockin.dto.CacheStatsResponse;
+import com.clockin.dto.CursorPage;
+import com.clockin.dto.EmployeeDetailResponse;
+import com.clockin.dto.EmployeeOverviewResponse;
+import com.clockin.dto.ImportResultResponse;
 import com.clockin.dto.LoginRequest;
-import com.clockin.dto.TimeEntryResponse;
+import com.clockin.dto.PayPeriodResponse;
+import com.clockin.dto.PayrollReportResponse;
+import com.clockin.dto.TimeAlertResponse;
+import com.clockin.dto.WeeklyReportResponse;
+import com.clockin.service.AdminEventStream;
+import com.clockin.service.AlertNotFoundException;
+import com.clockin.service.AdminViewCache;
+import com.clockin.service.EntityCacheStats;
+import com.clockin.service.PayrollService;
+import com.clockin.service.TimeAlertService;
+import com.clockin.service.TimeEntryBulkService;
+import com.clockin.service.TenantDirectory;
 import com.clockin.service.TimeEntryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/admin")
 @CrossOrigin(origins = "http://localhost:3000")
 public class AdminController {
@@ -20,11 +51,33 @@ public class AdminController {
     @Autowired
     private TimeEntryService timeEntryService;
     
-    private static final String ADMIN_ACCESS_CODE = "888";
+    @Autowired
+    private AdminViewCache adminViewCache;
+    
+    @Autowired
+    private EntityCacheStats entityCacheStats;
+    
+    @Autowired
+    private PayrollService payrollService;
+    
+    @Autowired
+    private AdminEventStream adminEventStream;
+    
+    @Autowired
+    private TimeEntryBulkService timeEntryBulkService;
+    
+    @Autowired
+    private TimeAlertService timeAlertService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private TenantDirectory tenantDirectory;
     
     @PostMapping("/login")
     public ResponseEntity<?> adminLogin(@Valid @RequestBody LoginRequest loginRequest) {
-        if (!ADMIN_ACCESS_CODE.equals(loginRequest.getAccessCode())) {
+        if (!tenantDirectory.isAdminAccessCode(loginRequest.getAccessCode())) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid admin access code"));
         }
         
@@ -36,49 +89,98 @@ public class AdminController {
     }
     
     @GetMapping("/all-employees")
-    public ResponseEntity<?> getAllEmployeesData(@RequestParam String accessCode) {
-        if (!ADMIN_ACCESS_CODE.equals(accessCode)) {
+    public ResponseEntity<?> getAllEmployeesData(@RequestParam String accessCode,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer limit,
+                                               @RequestParam(defaultValue = "false") boolean includeEntries,
+                                               @RequestParam(required = false) Integer entriesLimit) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid admin access code"));
         }
         
         try {
-            List<Map<String, Object>> employeesData = timeEntryService.getAllEmployeesData();
+            CursorPage<EmployeeOverviewResponse> employeesData = timeEntryService.getAllEmployeesData(
+                    cursor, limit, includeEntries, entriesLimit);
             return ResponseEntity.ok(employeesData);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
     
+    @GetMapping("/all-employees/export")
+    public ResponseEntity<StreamingResponseBody> exportAllEmployeesData(@RequestParam String accessCode) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(outputStream -> objectMapper.writeValue(outputStream, Map.of("error", "Invalid admin access code")));
+        }
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.json\"")
+                .body(timeEntryService::exportAllEmployeesData);
+    }
+    
+    // The request body is read as a stream: CSV with a header row, or one JSON object per line
+    @PostMapping("/time-entries/import")
+    public ResponseEntity<?> importTimeEntries(@RequestParam String accessCode,
+                                               @RequestParam(defaultValue = TimeEntryBulkService.CSV) String format,
+                                               InputStream body) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid admin access code"));
+        }
+        if (!TimeEntryBulkService.isSupportedFormat(format)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "format must be csv or ndjson"));
+        }
+        
+        try {
+            ImportResultResponse result = timeEntryBulkService.importEntries(body, format);
+            return ResponseEntity.ok(result);
+        } catch (IOException | RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/time-entries/export")
+    public ResponseEntity<StreamingResponseBody> exportTimeEntries(@RequestParam String accessCode,
+                                                                   @RequestParam(defaultValue = TimeEntryBulkService.CSV) String format,
+                                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        String error = null;
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
+            error = "Invalid admin access code";
+        } else if (!TimeEntryBulkService.isSupportedFormat(format)) {
+            error = "format must be csv or ndjson";
+        } else if (from != null && to != null && from.isAfter(to)) {
+            error = "from must not be after to";
+        }
+        if (error != null) {
+            Map<String, String> body = Map.of("error", error);
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(outputStream -> objectMapper.writeValue(outputStream, body));
+        }
+        
+        boolean csv = TimeEntryBulkService.CSV.equals(format);
+        return ResponseEntity.ok()
+                .contentType(csv ? MediaType.parseMediaType("text/csv") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"time-entries." + format + "\"")
+                .body(outputStream -> timeEntryBulkService.exportEntries(outputStream, format, from, to));
+    }
+    
     @GetMapping("/employee/{firstName}/{lastName}")
     public ResponseEntity<?> getEmployeeData(@PathVariable String firstName, 
                                            @PathVariable String lastName,
-                                           @RequestParam String accessCode) {
-        if (!ADMIN_ACCESS_CODE.equals(accessCode)) {
+                                           @RequestParam String accessCode,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                           @RequestParam(defaultValue = "false") boolean summaryOnly) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid admin access code"));
         }
         
         try {
-            List<TimeEntryResponse> employeeData = timeEntryService.getEmployeeHistory(firstName, lastName);
-            Map<String, Object> response = new HashMap<>();
-            response.put("firstName", firstName);
-            response.put("lastName", lastName);
-            response.put("entries", employeeData);
-            
-            // Calculate summary statistics
-            double totalHours = employeeData.stream()
-                    .filter(entry -> entry.getTotalHours() != null)
-                    .mapToDouble(TimeEntryResponse::getTotalHours)
-                    .sum();
-            
-            long totalEntries = employeeData.size();
-            long activeEntries = employeeData.stream()
-                    .filter(TimeEntryResponse::getIsActive)
-                    .count();
-            
-            response.put("totalHours", Math.round(totalHours * 100.0) / 100.0);
-            response.put("totalEntries", totalEntries);
-            response.put("activeEntries", activeEntries);
-            
+            EmployeeDetailResponse response = timeEntryService.getEmployeeDetail(firstName, lastName, from, to, summaryOnly);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -87,28 +189,132 @@ public class AdminController {
     
     @GetMapping("/summary")
     public ResponseEntity<?> getSummary(@RequestParam String accessCode) {
-        if (!ADMIN_ACCESS_CODE.equals(accessCode)) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid admin access code"));
         }
         
         try {
-            Map<String, Object> summary = timeEntryService.getAdminSummary();
+            AdminSummaryResponse summary = timeEntryService.getAdminSummary();
             return ResponseEntity.ok(summary);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
     
+    // EventSource cannot read an error body; a failed connect makes the dashboard fall back to plain requests
+    @GetMapping("/events")
+    public ResponseEntity<SseEmitter> streamEvents(@RequestParam String accessCode) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            return ResponseEntity.ok(adminEventStream.subscribe());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    @GetMapping("/payroll")
+    public ResponseEntity<?> getPayrollReport(@RequestParam String accessCode,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid admin access code"));
+        }
+        
+        try {
+            PayrollReportResponse report = payrollService.getPayrollReport(from, to);
+            return ResponseEntity.ok(report);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/payroll/periods")
+    public ResponseEntity<?> getPayPeriods(@RequestParam String accessCode) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid admin access code"));
+        }
+        
+        List<PayPeriodResponse> periods = payrollService.getPayPeriods();
+        return ResponseEntity.ok(periods);
+    }
+    
+    @PostMapping("/payroll/periods/close")
+    public ResponseEntity<?> closePayPeriod(@RequestParam String accessCode,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid admin access code"));
+        }
+        
+        try {
+            PayPeriodResponse period = payrollService.closePeriod(from, to);
+            return ResponseEntity.ok(period);
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "This pay period is already closed"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // Open alerts newest first: overtime flagged at clock-out and sessions nobody clocked out of
+    @GetMapping("/alerts")
+    public ResponseEntity<?> getAlerts(@RequestParam String accessCode,
+                                       @RequestParam(required = false) String cursor,
+                                       @RequestParam(required = false) Integer limit) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid admin access code"));
+        }
+        
+        try {
+            CursorPage<TimeAlertResponse> alerts = timeAlertService.getOpenAlerts(cursor, limit);
+            return ResponseEntity.ok(alerts);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/alerts/{alertId}/dismiss")
+    public ResponseEntity<?> dismissAlert(@PathVariable Long alertId, @RequestParam String accessCode) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid admin access code"));
+        }
+        
+        try {
+            TimeAlertResponse alert = timeAlertService.dismiss(alertId);
+            return ResponseEntity.ok(alert);
+        } catch (AlertNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> getCacheStats(@RequestParam String accessCode) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid admin access code"));
+        }
+        
+        List<CacheStatsResponse> stats = new ArrayList<>(adminViewCache.getStats());
+        stats.addAll(entityCacheStats.getStats());
+        return ResponseEntity.ok(stats);
+    }
+    
     @GetMapping("/employee/{firstName}/{lastName}/weekly")
     public ResponseEntity<?> getEmployeeWeeklyData(@PathVariable String firstName, 
                                                   @PathVariable String lastName,
-                                                  @RequestParam String accessCode) {
-        if (!ADMIN_ACCESS_CODE.equals(accessCode)) {
+                                                  @RequestParam String accessCode,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!tenantDirectory.isAdminAccessCode(accessCode)) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid admin access code"));
         }
         
         try {
-            Map<String, Object> weeklyData = timeEntryService.getEmployeeWeeklyData(firstName, lastName);
+            WeeklyReportResponse weeklyData = timeEntryService.getEmployeeWeeklyData(firstName, lastName, from, to);
             return ResponseEntity.ok(weeklyData);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -0,0 +1,71 @@
+package com.clockin.controller;
+
+import com.clockin.dto.LoginRequest;
+import com.clockin.service.ReactiveTimeEntryService;
+import com.clockin.service.TenantDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.Valid;
+import java.util.HashMap;
+import java.util.Map;
+
+// The admin overview endpoints of AdminController for the reactive profile; the rest stay servlet-only
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ReactiveAdminController {
+    
+    @Autowired
+    private ReactiveTimeEntryService timeEntryService;
+    
+    @Autowired
+    private TenantDirectory tenantDirectory;
+    
+    @PostMapping("/login")
+    public Mono<ResponseEntity<Object>> adminLogin(@RequestAttribute(ReactiveTenantFilter.TENANT_ATTRIBUTE) String tenantId,
+                                                   @Valid @RequestBody LoginRequest loginRequest) {
+        if (!tenantDirectory.isAdminAccessCode(tenantId, loginRequest.getAccessCode())) {
+            return ReactiveTimeEntryController.error(HttpStatus.BAD_REQUEST, "Invalid admin access code");
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Admin login successful");
+        response.put("isAdmin", true);
+        
+        return Mono.just(ResponseEntity.ok(response));
+    }
+    
+    @GetMapping("/all-employees")
+    public Mono<ResponseEntity<Object>> getAllEmployeesData(@RequestAttribute(ReactiveTenantFilter.TENANT_ATTRIBUTE) String tenantId,
+                                                            @RequestParam String accessCode,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer limit) {
+        if (!tenantDirectory.isAdminAccessCode(tenantId, accessCode)) {
+            return ReactiveTimeEntryController.error(HttpStatus.BAD_REQUEST, "Invalid admin access code");
+        }
+        
+        return timeEntryService.getAllEmployeesData(tenantId, cursor, limit)
+                .map(employeesData -> ResponseEntity.ok((Object) employeesData))
+                .onErrorResume(IllegalArgumentException.class,
+                        e -> ReactiveTimeEntryController.error(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+    
+    @GetMapping("/summary")
+    public Mono<ResponseEntity<Object>> getSummary(@RequestAttribute(ReactiveTenantFilter.TENANT_ATTRIBUTE) String tenantId,
+                                                   @RequestParam String accessCode) {
+        if (!tenantDirectory.isAdminAccessCode(tenantId, accessCode)) {
+            return ReactiveTimeEntryController.error(HttpStatus.BAD_REQUEST, "Invalid admin access code");
+        }
+        
+        return timeEntryService.getAdminSummary(tenantId)
+                .map(summary -> ResponseEntity.ok((Object) summary))
+                .onErrorResume(RuntimeException.class,
+                        e -> ReactiveTimeEntryController.error(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.clockin.controller;
+
+import com.clockin.service.TenantContext;
+import com.clockin.service.TenantDirectory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * The reactive counterpart of {@link TenantFilter}. A request may hop between event-loop threads,
+ * so the tenant travels as an exchange attribute instead of in {@link TenantContext}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTenantFilter implements WebFilter {
+    
+    public static final String TENANT_ATTRIBUTE = "com.clockin.controller.ReactiveTenantFilter.tenant";
+    
+    @Autowired
+    private TenantDirectory tenantDirectory;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!exchange.getRequest().getPath().pathWithinApplication().value().startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+        
+        String tenantId = exchange.getRequest().getHeaders().getFirst(TenantFilter.TENANT_HEADER);
+        if (tenantId == null || tenantId.isBlank()) {
+            tenantId = exchange.getRequest().getQueryParams().getFirst(TenantFilter.TENANT_PARAMETER);
+        }
+        if (tenantId == null || tenantId.isBlank()) {
+            tenantId = TenantContext.DEFAULT_TENANT;
+        }
+        if (!tenantDirectory.exists(tenantId)) {
+            return writeError(exchange.getResponse());
+        }
+        
+        exchange.getAttributes().put(TENANT_ATTRIBUTE, tenantId);
+        return chain.filter(exchange);
+    }
+    
+    private Mono<Void> writeError(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.BAD_REQUEST);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return Mono.fromCallable(() -> objectMapper.writeValueAsBytes(Map.of("error", "Unknown tenant")))
+                .flatMap(body -> {
+                    DataBuffer buffer = response.bufferFactory().wrap(body);
+                    return response.writeWith(Mono.just(buffer));
+                });
+    }
+}
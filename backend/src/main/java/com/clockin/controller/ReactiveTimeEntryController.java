@@ -0,0 +1,127 @@
+package com.clockin.controller;
+
+import com.clockin.dto.LoginRequest;
+import com.clockin.dto.TimeEntryResponse;
+import com.clockin.service.ClockConflictException;
+import com.clockin.service.ReactiveTimeEntryService;
+import com.clockin.service.TenantDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.Valid;
+import java.util.HashMap;
+import java.util.Map;
+
+// Same contract as TimeEntryController, minus batch punches, for the reactive profile
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/time-entries")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ReactiveTimeEntryController {
+    
+    @Autowired
+    private ReactiveTimeEntryService timeEntryService;
+    
+    @Autowired
+    private TenantDirectory tenantDirectory;
+    
+    @PostMapping("/login")
+    public Mono<ResponseEntity<Object>> login(@RequestAttribute(ReactiveTenantFilter.TENANT_ATTRIBUTE) String tenantId,
+                                              @Valid @RequestBody LoginRequest loginRequest) {
+        if (!tenantDirectory.isEmployeeAccessCode(tenantId, loginRequest.getAccessCode())) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid access code");
+        }
+        
+        return timeEntryService.getCurrentStatus(tenantId, loginRequest.getFirstName(), loginRequest.getLastName())
+                .map(currentStatus -> loginResponse(loginRequest, currentStatus))
+                .defaultIfEmpty(loginResponse(loginRequest, null))
+                .map(response -> ResponseEntity.ok((Object) response));
+    }
+    
+    private static Map<String, Object> loginResponse(LoginRequest loginRequest, TimeEntryResponse currentStatus) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Login successful");
+        response.put("firstName", loginRequest.getFirstName());
+        response.put("lastName", loginRequest.getLastName());
+        response.put("currentStatus", currentStatus);
+        return response;
+    }
+    
+    @PostMapping("/clock-in")
+    public Mono<ResponseEntity<Object>> clockIn(@RequestAttribute(ReactiveTenantFilter.TENANT_ATTRIBUTE) String tenantId,
+                                                @Valid @RequestBody LoginRequest loginRequest) {
+        if (!tenantDirectory.isEmployeeAccessCode(tenantId, loginRequest.getAccessCode())) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid access code");
+        }
+        
+        return timeEntryService.clockIn(tenantId, loginRequest.getFirstName(), loginRequest.getLastName())
+                .map(response -> ResponseEntity.ok((Object) response))
+                .onErrorResume(ClockConflictException.class, e -> error(HttpStatus.CONFLICT, e.getMessage()))
+                .onErrorResume(RuntimeException.class, e -> error(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+    
+    @PostMapping("/clock-out")
+    public Mono<ResponseEntity<Object>> clockOut(@RequestAttribute(ReactiveTenantFilter.TENANT_ATTRIBUTE) String tenantId,
+                                                 @Valid @RequestBody LoginRequest loginRequest) {
+        if (!tenantDirectory.isEmployeeAccessCode(tenantId, loginRequest.getAccessCode())) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid access code");
+        }
+        
+        return timeEntryService.clockOut(tenantId, loginRequest.getFirstName(), loginRequest.getLastName())
+                .map(response -> ResponseEntity.ok((Object) response))
+                .onErrorResume(RuntimeException.class, e -> error(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+    
+    @GetMapping("/history/{firstName}/{lastName}")
+    public Mono<ResponseEntity<Object>> getHistory(@RequestAttribute(ReactiveTenantFilter.TENANT_ATTRIBUTE) String tenantId,
+                                                   @PathVariable String firstName,
+                                                   @PathVariable String lastName,
+                                                   @RequestParam String accessCode,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer limit) {
+        if (!tenantDirectory.isEmployeeAccessCode(tenantId, accessCode)) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid access code");
+        }
+        
+        return timeEntryService.getEmployeeHistoryPage(tenantId, firstName, lastName, cursor, limit)
+                .map(history -> ResponseEntity.ok((Object) history))
+                .onErrorResume(IllegalArgumentException.class, e -> error(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+    
+    // The full history as newline-delimited JSON, one entry per line as the database yields it
+    @GetMapping(value = "/history/{firstName}/{lastName}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<TimeEntryResponse>> streamHistory(@RequestAttribute(ReactiveTenantFilter.TENANT_ATTRIBUTE) String tenantId,
+                                                                 @PathVariable String firstName,
+                                                                 @PathVariable String lastName,
+                                                                 @RequestParam String accessCode) {
+        if (!tenantDirectory.isEmployeeAccessCode(tenantId, accessCode)) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return ResponseEntity.ok(timeEntryService.streamEmployeeHistory(tenantId, firstName, lastName));
+    }
+    
+    @GetMapping("/status/{firstName}/{lastName}")
+    public Mono<ResponseEntity<Object>> getCurrentStatus(@RequestAttribute(ReactiveTenantFilter.TENANT_ATTRIBUTE) String tenantId,
+                                                         @PathVariable String firstName,
+                                                         @PathVariable String lastName,
+                                                         @RequestParam String accessCode) {
+        if (!tenantDirectory.isEmployeeAccessCode(tenantId, accessCode)) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid access code");
+        }
+        
+        return timeEntryService.getCurrentStatus(tenantId, firstName, lastName)
+                .map(status -> ResponseEntity.ok((Object) status))
+                .defaultIfEmpty(ResponseEntity.ok().build());
+    }
+    
+    static Mono<ResponseEntity<Object>> error(HttpStatus status, String message) {
+        return Mono.just(ResponseEntity.status(status).body(Map.of("error", message)));
+    }
+}
@@ -1,9 +1,17 @@
 package com.clockin.controller;
 
+import com.clockin.dto.BatchPunchRequest;
+import com.clockin.dto.CursorPage;
 import com.clockin.dto.LoginRequest;
+import com.clockin.dto.PunchResult;
 import com.clockin.dto.TimeEntryResponse;
+import com.clockin.service.ClockConflictException;
+import com.clockin.service.PunchJournal;
+import com.clockin.service.TenantDirectory;
 import com.clockin.service.TimeEntryService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/time-entries")
 @CrossOrigin(origins = "http://localhost:3000")
 public class TimeEntryController {
@@ -20,11 +29,15 @@ public class TimeEntryController {
     @Autowired
     private TimeEntryService timeEntryService;
     
-    private static final String ACCESS_CODE = "777";
+    @Autowired
+    private TenantDirectory tenantDirectory;
+    
+    @Autowired
+    private PunchJournal punchJournal;
     
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
-        if (!ACCESS_CODE.equals(loginRequest.getAccessCode())) {
+        if (!tenantDirectory.isEmployeeAccessCode(loginRequest.getAccessCode())) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid access code"));
         }
         
@@ -43,7 +56,7 @@ public class TimeEntryController {
     
     @PostMapping("/clock-in")
     public ResponseEntity<?> clockIn(@Valid @RequestBody LoginRequest loginRequest) {
-        if (!ACCESS_CODE.equals(loginRequest.getAccessCode())) {
+        if (!tenantDirectory.isEmployeeAccessCode(loginRequest.getAccessCode())) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid access code"));
         }
         
@@ -51,6 +64,8 @@ public class TimeEntryController {
             TimeEntryResponse response = timeEntryService.clockIn(
                     loginRequest.getFirstName(), loginRequest.getLastName());
             return ResponseEntity.ok(response);
+        } catch (ClockConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -58,7 +73,7 @@ public class TimeEntryController {
     
     @PostMapping("/clock-out")
     public ResponseEntity<?> clockOut(@Valid @RequestBody LoginRequest loginRequest) {
-        if (!ACCESS_CODE.equals(loginRequest.getAccessCode())) {
+        if (!tenantDirectory.isEmployeeAccessCode(loginRequest.getAccessCode())) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid access code"));
         }
         
@@ -71,23 +86,55 @@ public class TimeEntryController {
         }
     }
     
+    @PostMapping("/batch")
+    public ResponseEntity<?> batch(@Valid @RequestBody BatchPunchRequest batchRequest) {
+        if (!tenantDirectory.isEmployeeAccessCode(batchRequest.getAccessCode())) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid access code"));
+        }
+        // Batch punches would bypass the journal's view of who is clocked in, and journaled punches
+        // they contradict could no longer be written
+        if (punchJournal.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "Batch punches are not accepted while the punch journal is enabled"));
+        }
+        
+        try {
+            List<PunchResult> results = timeEntryService.applyPunches(batchRequest.getPunches());
+            long accepted = results.stream().filter(result -> PunchResult.ACCEPTED.equals(result.getStatus())).count();
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("accepted", accepted);
+            response.put("rejected", results.size() - accepted);
+            response.put("results", results);
+            return ResponseEntity.ok(response);
+        } catch (ClockConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+    
     @GetMapping("/history/{firstName}/{lastName}")
     public ResponseEntity<?> getHistory(@PathVariable String firstName, 
                                        @PathVariable String lastName,
-                                       @RequestParam String accessCode) {
-        if (!ACCESS_CODE.equals(accessCode)) {
+                                       @RequestParam String accessCode,
+                                       @RequestParam(required = false) String cursor,
+                                       @RequestParam(required = false) Integer limit) {
+        if (!tenantDirectory.isEmployeeAccessCode(accessCode)) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid access code"));
         }
         
-        List<TimeEntryResponse> history = timeEntryService.getEmployeeHistory(firstName, lastName);
-        return ResponseEntity.ok(history);
+        try {
+            CursorPage<TimeEntryResponse> history = timeEntryService.getEmployeeHistoryPage(firstName, lastName, cursor, limit);
+            return ResponseEntity.ok(history);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
     
     @GetMapping("/status/{firstName}/{lastName}")
     public ResponseEntity<?> getCurrentStatus(@PathVariable String firstName, 
                                              @PathVariable String lastName,
                                              @RequestParam String accessCode) {
-        if (!ACCESS_CODE.equals(accessCode)) {
+        if (!tenantDirectory.isEmployeeAccessCode(accessCode)) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid access code"));
         }
         
@@ -0,0 +1,52 @@
+package com.clockin.dto;
+
+public class AdminSummaryResponse {
+    
+    private Long totalEmployees;
+    private Long currentlyActive;
+    private Double totalHours;
+    private Long totalEntries;
+    
+    // Constructors
+    public AdminSummaryResponse() {}
+    
+    public AdminSummaryResponse(Long totalEmployees, Long currentlyActive, Double totalHours, Long totalEntries) {
+        this.totalEmployees = totalEmployees;
+        this.currentlyActive = currentlyActive;
+        this.totalHours = totalHours;
+        this.totalEntries = totalEntries;
+    }
+    
+    // Getters and Setters
+    public Long getTotalEmployees() {
+        return totalEmployees;
+    }
+    
+    public void setTotalEmployees(Long totalEmployees) {
+        this.totalEmployees = totalEmployees;
+    }
+    
+    public Long getCurrentlyActive() {
+        return currentlyActive;
+    }
+    
+    public void setCurrentlyActive(Long currentlyActive) {
+        this.currentlyActive = currentlyActive;
+    }
+    
+    public Double getTotalHours() {
+        return totalHours;
+    }
+    
+    public void setTotalHours(Double totalHours) {
+        this.totalHours = totalHours;
+    }
+    
+    public Long getTotalEntries() {
+        return totalEntries;
+    }
+    
+    public void setTotalEntries(Long totalEntries) {
+        this.totalEntries = totalEntries;
+    }
+}
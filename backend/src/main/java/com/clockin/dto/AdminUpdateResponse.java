@@ -0,0 +1,34 @@
+package com.clockin.dto;
+
+import java.util.List;
+
+public class AdminUpdateResponse {
+    
+    private List<EmployeeOverviewResponse> employees;
+    private AdminSummaryResponse summary;
+    
+    // Constructors
+    public AdminUpdateResponse() {}
+    
+    public AdminUpdateResponse(List<EmployeeOverviewResponse> employees, AdminSummaryResponse summary) {
+        this.employees = employees;
+        this.summary = summary;
+    }
+    
+    // Getters and Setters
+    public List<EmployeeOverviewResponse> getEmployees() {
+        return employees;
+    }
+    
+    public void setEmployees(List<EmployeeOverviewResponse> employees) {
+        this.employees = employees;
+    }
+    
+    public AdminSummaryResponse getSummary() {
+        return summary;
+    }
+    
+    public void setSummary(AdminSummaryResponse summary) {
+        this.summary = summary;
+    }
+}
@@ -0,0 +1,86 @@
+package com.clockin.dto;
+
+import java.time.LocalDateTime;
+
+// One line of a time entry archive file
+public class ArchivedTimeEntry {
+    
+    private Long id;
+    private Long employeeId;
+    private String firstName;
+    private String lastName;
+    private LocalDateTime clockInTime;
+    private LocalDateTime clockOutTime;
+    private Double totalHours;
+    
+    // Constructors
+    public ArchivedTimeEntry() {}
+    
+    public ArchivedTimeEntry(Long id, Long employeeId, String firstName, String lastName,
+                             LocalDateTime clockInTime, LocalDateTime clockOutTime, Double totalHours) {
+        this.id = id;
+        this.employeeId = employeeId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.clockInTime = clockInTime;
+        this.clockOutTime = clockOutTime;
+        this.totalHours = totalHours;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+    
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public LocalDateTime getClockInTime() {
+        return clockInTime;
+    }
+    
+    public void setClockInTime(LocalDateTime clockInTime) {
+        this.clockInTime = clockInTime;
+    }
+    
+    public LocalDateTime getClockOutTime() {
+        return clockOutTime;
+    }
+    
+    public void setClockOutTime(LocalDateTime clockOutTime) {
+        this.clockOutTime = clockOutTime;
+    }
+    
+    public Double getTotalHours() {
+        return totalHours;
+    }
+    
+    public void setTotalHours(Double totalHours) {
+        this.totalHours = totalHours;
+    }
+}
@@ -0,0 +1,44 @@
+package com.clockin.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BatchPunchRequest {
+    
+    public static final int MAX_PUNCHES = 1000;
+    
+    @NotBlank(message = "Access code is required")
+    private String accessCode;
+    
+    @NotEmpty(message = "At least one punch is required")
+    @Size(max = MAX_PUNCHES, message = "A batch may contain at most " + MAX_PUNCHES + " punches")
+    private List<PunchRequest> punches;
+    
+    // Constructors
+    public BatchPunchRequest() {}
+    
+    public BatchPunchRequest(String accessCode, List<PunchRequest> punches) {
+        this.accessCode = accessCode;
+        this.punches = punches;
+    }
+    
+    // Getters and Setters
+    public String getAccessCode() {
+        return accessCode;
+    }
+    
+    public void setAccessCode(String accessCode) {
+        this.accessCode = accessCode;
+    }
+    
+    public List<PunchRequest> getPunches() {
+        return punches;
+    }
+    
+    public void setPunches(List<PunchRequest> punches) {
+        this.punches = punches;
+    }
+}
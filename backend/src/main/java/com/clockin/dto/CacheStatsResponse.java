@@ -0,0 +1,83 @@
+package com.clockin.dto;
+
+public class CacheStatsResponse {
+    
+    private String name;
+    private Long size;
+    private Long hitCount;
+    private Long missCount;
+    private Double hitRate;
+    private Long evictionCount;
+    private Long invalidationCount;
+    
+    // Constructors
+    public CacheStatsResponse() {}
+    
+    public CacheStatsResponse(String name, Long size, Long hitCount, Long missCount, Double hitRate,
+                              Long evictionCount, Long invalidationCount) {
+        this.name = name;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+        this.invalidationCount = invalidationCount;
+    }
+    
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public Long getSize() {
+        return size;
+    }
+    
+    public void setSize(Long size) {
+        this.size = size;
+    }
+    
+    public Long getHitCount() {
+        return hitCount;
+    }
+    
+    public void setHitCount(Long hitCount) {
+        this.hitCount = hitCount;
+    }
+    
+    public Long getMissCount() {
+        return missCount;
+    }
+    
+    public void setMissCount(Long missCount) {
+        this.missCount = missCount;
+    }
+    
+    public Double getHitRate() {
+        return hitRate;
+    }
+    
+    public void setHitRate(Double hitRate) {
+        this.hitRate = hitRate;
+    }
+    
+    public Long getEvictionCount() {
+        return evictionCount;
+    }
+    
+    public void setEvictionCount(Long evictionCount) {
+        this.evictionCount = evictionCount;
+    }
+    
+    public Long getInvalidationCount() {
+        return invalidationCount;
+    }
+    
+    public void setInvalidationCount(Long invalidationCount) {
+        this.invalidationCount = invalidationCount;
+    }
+}
@@ -0,0 +1,44 @@
+package com.clockin.dto;
+
+import java.time.LocalDate;
+
+public class DailyHours {
+    
+    private LocalDate date;
+    private Double totalHours;
+    private Long entryCount;
+    
+    // Constructors
+    public DailyHours() {}
+    
+    public DailyHours(LocalDate date, Double totalHours, Long entryCount) {
+        this.date = date;
+        this.totalHours = totalHours;
+        this.entryCount = entryCount;
+    }
+    
+    // Getters and Setters
+    public LocalDate getDate() {
+        return date;
+    }
+    
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+    
+    public Double getTotalHours() {
+        return totalHours;
+    }
+    
+    public void setTotalHours(Double totalHours) {
+        this.totalHours = totalHours;
+    }
+    
+    public Long getEntryCount() {
+        return entryCount;
+    }
+    
+    public void setEntryCount(Long entryCount) {
+        this.entryCount = entryCount;
+    }
+}
@@ -0,0 +1,89 @@
+package com.clockin.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class EmployeeDetailResponse {
+    
+    private String firstName;
+    private String lastName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDate from;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDate to;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<TimeEntryResponse> entries;
+    private Double totalHours;
+    private Long totalEntries;
+    private Long activeEntries;
+    
+    // Constructors
+    public EmployeeDetailResponse() {}
+    
+    // Getters and Setters
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public LocalDate getFrom() {
+        return from;
+    }
+    
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+    
+    public LocalDate getTo() {
+        return to;
+    }
+    
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+    
+    public List<TimeEntryResponse> getEntries() {
+        return entries;
+    }
+    
+    public void setEntries(List<TimeEntryResponse> entries) {
+        this.entries = entries;
+    }
+    
+    public Double getTotalHours() {
+        return totalHours;
+    }
+    
+    public void setTotalHours(Double totalHours) {
+        this.totalHours = totalHours;
+    }
+    
+    public Long getTotalEntries() {
+        return totalEntries;
+    }
+    
+    public void setTotalEntries(Long totalEntries) {
+        this.totalEntries = totalEntries;
+    }
+    
+    public Long getActiveEntries() {
+        return activeEntries;
+    }
+    
+    public void setActiveEntries(Long activeEntries) {
+        this.activeEntries = activeEntries;
+    }
+}
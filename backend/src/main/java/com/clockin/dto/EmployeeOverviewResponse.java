@@ -0,0 +1,105 @@
+package com.clockin.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public class EmployeeOverviewResponse {
+    
+    private String employeeName;
+    private String firstName;
+    private String lastName;
+    private Double totalHours;
+    private Long totalEntries;
+    private Long activeEntries;
+    private Boolean isCurrentlyActive;
+    private TimeEntryResponse latestEntry;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<TimeEntryResponse> entries;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String entriesNextCursor;
+    
+    // Constructors
+    public EmployeeOverviewResponse() {}
+    
+    // Getters and Setters
+    public String getEmployeeName() {
+        return employeeName;
+    }
+    
+    public void setEmployeeName(String employeeName) {
+        this.employeeName = employeeName;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public Double getTotalHours() {
+        return totalHours;
+    }
+    
+    public void setTotalHours(Double totalHours) {
+        this.totalHours = totalHours;
+    }
+    
+    public Long getTotalEntries() {
+        return totalEntries;
+    }
+    
+    public void setTotalEntries(Long totalEntries) {
+        this.totalEntries = totalEntries;
+    }
+    
+    public Long getActiveEntries() {
+        return activeEntries;
+    }
+    
+    public void setActiveEntries(Long activeEntries) {
+        this.activeEntries = activeEntries;
+    }
+    
+    public Boolean getIsCurrentlyActive() {
+        return isCurrentlyActive;
+    }
+    
+    public void setIsCurrentlyActive(Boolean isCurrentlyActive) {
+        this.isCurrentlyActive = isCurrentlyActive;
+    }
+    
+    public TimeEntryResponse getLatestEntry() {
+        return latestEntry;
+    }
+    
+    public void setLatestEntry(TimeEntryResponse latestEntry) {
+        this.latestEntry = latestEntry;
+    }
+    
+    public List<TimeEntryResponse> getEntries() {
+        return entries;
+    }
+    
+    public void setEntries(List<TimeEntryResponse> entries) {
+        this.entries = entries;
+    }
+    
+    public String getEntriesNextCursor() {
+        return entriesNextCursor;
+    }
+    
+    public void setEntriesNextCursor(String entriesNextCursor) {
+        this.entriesNextCursor = entriesNextCursor;
+    }
+}
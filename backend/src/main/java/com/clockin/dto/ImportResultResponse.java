@@ -0,0 +1,57 @@
+package com.clockin.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportResultResponse {
+    
+    private long imported;
+    private long duplicates;
+    private long rejected;
+    private List<ImportRowError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    
+    // Constructors
+    public ImportResultResponse() {}
+    
+    // Getters and Setters
+    public long getImported() {
+        return imported;
+    }
+    
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+    
+    public long getDuplicates() {
+        return duplicates;
+    }
+    
+    public void setDuplicates(long duplicates) {
+        this.duplicates = duplicates;
+    }
+    
+    public long getRejected() {
+        return rejected;
+    }
+    
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+    
+    public List<ImportRowError> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<ImportRowError> errors) {
+        this.errors = errors;
+    }
+    
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+    
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+}
@@ -0,0 +1,32 @@
+package com.clockin.dto;
+
+public class ImportRowError {
+    
+    private long row;
+    private String error;
+    
+    // Constructors
+    public ImportRowError() {}
+    
+    public ImportRowError(long row, String error) {
+        this.row = row;
+        this.error = error;
+    }
+    
+    // Getters and Setters
+    public long getRow() {
+        return row;
+    }
+    
+    public void setRow(long row) {
+        this.row = row;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,55 @@
+package com.clockin.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class PayPeriodResponse {
+    
+    private Long id;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDateTime closedAt;
+    
+    // Constructors
+    public PayPeriodResponse() {}
+    
+    public PayPeriodResponse(Long id, LocalDate startDate, LocalDate endDate, LocalDateTime closedAt) {
+        this.id = id;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.closedAt = closedAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+    
+    public LocalDateTime getClosedAt() {
+        return closedAt;
+    }
+    
+    public void setClosedAt(LocalDateTime closedAt) {
+        this.closedAt = closedAt;
+    }
+}
@@ -0,0 +1,68 @@
+package com.clockin.dto;
+
+public class PayrollEmployeeResponse {
+    
+    private String firstName;
+    private String lastName;
+    private Double regularHours = 0.0;
+    private Double overtimeHours = 0.0;
+    private Double totalHours = 0.0;
+    private Long entryCount = 0L;
+    
+    // Constructors
+    public PayrollEmployeeResponse() {}
+    
+    public PayrollEmployeeResponse(String firstName, String lastName) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+    
+    // Getters and Setters
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public Double getRegularHours() {
+        return regularHours;
+    }
+    
+    public void setRegularHours(Double regularHours) {
+        this.regularHours = regularHours;
+    }
+    
+    public Double getOvertimeHours() {
+        return overtimeHours;
+    }
+    
+    public void setOvertimeHours(Double overtimeHours) {
+        this.overtimeHours = overtimeHours;
+    }
+    
+    public Double getTotalHours() {
+        return totalHours;
+    }
+    
+    public void setTotalHours(Double totalHours) {
+        this.totalHours = totalHours;
+    }
+    
+    public Long getEntryCount() {
+        return entryCount;
+    }
+    
+    public void setEntryCount(Long entryCount) {
+        this.entryCount = entryCount;
+    }
+}
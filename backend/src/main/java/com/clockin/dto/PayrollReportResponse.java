@@ -0,0 +1,66 @@
+package com.clockin.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class PayrollReportResponse {
+    
+    private LocalDate from;
+    private LocalDate to;
+    private LocalDate closedThrough;
+    private List<PayrollEmployeeResponse> employees;
+    private Double regularHours;
+    private Double overtimeHours;
+    
+    // Constructors
+    public PayrollReportResponse() {}
+    
+    // Getters and Setters
+    public LocalDate getFrom() {
+        return from;
+    }
+    
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+    
+    public LocalDate getTo() {
+        return to;
+    }
+    
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+    
+    public LocalDate getClosedThrough() {
+        return closedThrough;
+    }
+    
+    public void setClosedThrough(LocalDate closedThrough) {
+        this.closedThrough = closedThrough;
+    }
+    
+    public List<PayrollEmployeeResponse> getEmployees() {
+        return employees;
+    }
+    
+    public void setEmployees(List<PayrollEmployeeResponse> employees) {
+        this.employees = employees;
+    }
+    
+    public Double getRegularHours() {
+        return regularHours;
+    }
+    
+    public void setRegularHours(Double regularHours) {
+        this.regularHours = regularHours;
+    }
+    
+    public Double getOvertimeHours() {
+        return overtimeHours;
+    }
+    
+    public void setOvertimeHours(Double overtimeHours) {
+        this.overtimeHours = overtimeHours;
+    }
+}
@@ -0,0 +1,58 @@
+package com.clockin.dto;
+
+import java.time.LocalDateTime;
+
+public class PunchRequest {
+    
+    public static final String CLOCK_IN = "CLOCK_IN";
+    public static final String CLOCK_OUT = "CLOCK_OUT";
+    
+    // Validated per punch by the service so one bad punch does not reject the whole batch
+    private String firstName;
+    private String lastName;
+    private String type;
+    private LocalDateTime timestamp;
+    
+    // Constructors
+    public PunchRequest() {}
+    
+    public PunchRequest(String firstName, String lastName, String type, LocalDateTime timestamp) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.type = type;
+        this.timestamp = timestamp;
+    }
+    
+    // Getters and Setters
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+    
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+}
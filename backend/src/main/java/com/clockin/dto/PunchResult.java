@@ -0,0 +1,55 @@
+package com.clockin.dto;
+
+public class PunchResult {
+    
+    public static final String ACCEPTED = "ACCEPTED";
+    public static final String REJECTED = "REJECTED";
+    
+    private Integer index;
+    private String status;
+    private String error;
+    private TimeEntryResponse entry;
+    
+    // Constructors
+    public PunchResult() {}
+    
+    public PunchResult(Integer index, String status, String error, TimeEntryResponse entry) {
+        this.index = index;
+        this.status = status;
+        this.error = error;
+        this.entry = entry;
+    }
+    
+    // Getters and Setters
+    public Integer getIndex() {
+        return index;
+    }
+    
+    public void setIndex(Integer index) {
+        this.index = index;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+    
+    public TimeEntryResponse getEntry() {
+        return entry;
+    }
+    
+    public void setEntry(TimeEntryResponse entry) {
+        this.entry = entry;
+    }
+}
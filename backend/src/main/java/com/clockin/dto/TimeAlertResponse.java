@@ -0,0 +1,96 @@
+package com.clockin.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class TimeAlertResponse {
+    
+    private Long id;
+    private String type;
+    private String firstName;
+    private String lastName;
+    private Long entryId;
+    private LocalDate workDate;
+    private Double hours;
+    private LocalDateTime raisedAt;
+    
+    // Constructors
+    public TimeAlertResponse() {}
+    
+    public TimeAlertResponse(Long id, String type, String firstName, String lastName, Long entryId,
+                             LocalDate workDate, Double hours, LocalDateTime raisedAt) {
+        this.id = id;
+        this.type = type;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.entryId = entryId;
+        this.workDate = workDate;
+        this.hours = hours;
+        this.raisedAt = raisedAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public Long getEntryId() {
+        return entryId;
+    }
+    
+    public void setEntryId(Long entryId) {
+        this.entryId = entryId;
+    }
+    
+    public LocalDate getWorkDate() {
+        return workDate;
+    }
+    
+    public void setWorkDate(LocalDate workDate) {
+        this.workDate = workDate;
+    }
+    
+    public Double getHours() {
+        return hours;
+    }
+    
+    public void setHours(Double hours) {
+        this.hours = hours;
+    }
+    
+    public LocalDateTime getRaisedAt() {
+        return raisedAt;
+    }
+    
+    public void setRaisedAt(LocalDateTime raisedAt) {
+        this.raisedAt = raisedAt;
+    }
+}
@@ -0,0 +1,52 @@
+package com.clockin.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+// One CSV/NDJSON import row. Timestamps stay text so a bad value is reported for its row;
+// other columns (such as those of an export) are ignored.
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonPropertyOrder({"firstName", "lastName", "clockInTime", "clockOutTime"})
+public class TimeEntryImportRow {
+    
+    private String firstName;
+    private String lastName;
+    private String clockInTime;
+    private String clockOutTime;
+    
+    // Constructors
+    public TimeEntryImportRow() {}
+    
+    // Getters and Setters
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public String getClockInTime() {
+        return clockInTime;
+    }
+    
+    public void setClockInTime(String clockInTime) {
+        this.clockInTime = clockInTime;
+    }
+    
+    public String getClockOutTime() {
+        return clockOutTime;
+    }
+    
+    public void setClockOutTime(String clockOutTime) {
+        this.clockOutTime = clockOutTime;
+    }
+}
@@ -0,0 +1,64 @@
+package com.clockin.dto;
+
+import java.util.List;
+
+public class WeekResponse {
+    
+    private String weekKey;
+    private String weekLabel;
+    private Double totalHours;
+    private Long entryCount;
+    private List<WeekdayResponse> weekdays;
+    
+    // Constructors
+    public WeekResponse() {}
+    
+    public WeekResponse(String weekKey, String weekLabel, Double totalHours, Long entryCount, List<WeekdayResponse> weekdays) {
+        this.weekKey = weekKey;
+        this.weekLabel = weekLabel;
+        this.totalHours = totalHours;
+        this.entryCount = entryCount;
+        this.weekdays = weekdays;
+    }
+    
+    // Getters and Setters
+    public String getWeekKey() {
+        return weekKey;
+    }
+    
+    public void setWeekKey(String weekKey) {
+        this.weekKey = weekKey;
+    }
+    
+    public String getWeekLabel() {
+        return weekLabel;
+    }
+    
+    public void setWeekLabel(String weekLabel) {
+        this.weekLabel = weekLabel;
+    }
+    
+    public Double getTotalHours() {
+        return totalHours;
+    }
+    
+    public void setTotalHours(Double totalHours) {
+        this.totalHours = totalHours;
+    }
+    
+    public Long getEntryCount() {
+        return entryCount;
+    }
+    
+    public void setEntryCount(Long entryCount) {
+        this.entryCount = entryCount;
+    }
+    
+    public List<WeekdayResponse> getWeekdays() {
+        return weekdays;
+    }
+    
+    public void setWeekdays(List<WeekdayResponse> weekdays) {
+        this.weekdays = weekdays;
+    }
+}
@@ -0,0 +1,44 @@
+package com.clockin.dto;
+
+import java.util.List;
+
+public class WeekdayResponse {
+    
+    private String weekday;
+    private Double totalHours;
+    private List<TimeEntryResponse> entries;
+    
+    // Constructors
+    public WeekdayResponse() {}
+    
+    public WeekdayResponse(String weekday, Double totalHours, List<TimeEntryResponse> entries) {
+        this.weekday = weekday;
+        this.totalHours = totalHours;
+        this.entries = entries;
+    }
+    
+    // Getters and Setters
+    public String getWeekday() {
+        return weekday;
+    }
+    
+    public void setWeekday(String weekday) {
+        this.weekday = weekday;
+    }
+    
+    public Double getTotalHours() {
+        return totalHours;
+    }
+    
+    public void setTotalHours(Double totalHours) {
+        this.totalHours = totalHours;
+    }
+    
+    public List<TimeEntryResponse> getEntries() {
+        return entries;
+    }
+    
+    public void setEntries(List<TimeEntryResponse> entries) {
+        this.entries = entries;
+    }
+}
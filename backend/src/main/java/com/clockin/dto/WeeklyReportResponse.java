@@ -0,0 +1,84 @@
+package com.clockin.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class WeeklyReportResponse {
+    
+    private String firstName;
+    private String lastName;
+    private String employeeName;
+    private LocalDate from;
+    private LocalDate to;
+    private List<WeekResponse> weeklyData;
+    private Double totalHours;
+    private Long totalEntries;
+    
+    // Constructors
+    public WeeklyReportResponse() {}
+    
+    // Getters and Setters
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public String getEmployeeName() {
+        return employeeName;
+    }
+    
+    public void setEmployeeName(String employeeName) {
+        this.employeeName = employeeName;
+    }
+    
+    public LocalDate getFrom() {
+        return from;
+    }
+    
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+    
+    public LocalDate getTo() {
+        return to;
+    }
+    
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+    
+    public List<WeekResponse> getWeeklyData() {
+        return weeklyData;
+    }
+    
+    public void setWeeklyData(List<WeekResponse> weeklyData) {
+        this.weeklyData = weeklyData;
+    }
+    
+    public Double getTotalHours() {
+        return totalHours;
+    }
+    
+    public void setTotalHours(Double totalHours) {
+        this.totalHours = totalHours;
+    }
+    
+    public Long getTotalEntries() {
+        return totalEntries;
+    }
+    
+    public void setTotalEntries(Long totalEntries) {
+        this.totalEntries = totalEntries;
+    }
+}
@@ -0,0 +1,177 @@
+package com.clockin.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "employee_summaries", indexes = {
+        @Index(name = "idx_employee_summaries_tenant_name", columnList = "tenant_id, first_name, last_name")
+})
+public class EmployeeSummary {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", length = 64, updatable = false)
+    private String tenantId;
+    
+    @Column(name = "employee_id", unique = true)
+    private Long employeeId;
+    
+    @Column(name = "first_name", nullable = false)
+    private String firstName;
+    
+    @Column(name = "last_name", nullable = false)
+    private String lastName;
+    
+    @Column(name = "total_hours", nullable = false)
+    private Double totalHours = 0.0;
+    
+    @Column(name = "total_entries", nullable = false)
+    private Long totalEntries = 0L;
+    
+    @Column(name = "active_entries", nullable = false)
+    private Long activeEntries = 0L;
+    
+    @Column(name = "latest_entry_id")
+    private Long latestEntryId;
+    
+    // Running hours for the latest day and week the employee worked, by clock-in date, so overtime
+    // alerts need no query on clock-out. Null until first needed, and after imports or a rebuild.
+    @Column(name = "counter_date")
+    private LocalDate counterDate;
+    
+    @Column(name = "day_hours")
+    private Double dayHours;
+    
+    @Column(name = "week_start")
+    private LocalDate weekStart;
+    
+    // Each day counts up to the daily overtime limit, as in OvertimePolicy
+    @Column(name = "week_regular_hours")
+    private Double weekRegularHours;
+    
+    // Constructors
+    public EmployeeSummary() {}
+    
+    public EmployeeSummary(Employee employee) {
+        this.employeeId = employee.getId();
+        this.tenantId = employee.getTenantId();
+        this.firstName = employee.getFirstName();
+        this.lastName = employee.getLastName();
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+    
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public Double getTotalHours() {
+        return totalHours;
+    }
+    
+    public void setTotalHours(Double totalHours) {
+        this.totalHours = totalHours;
+    }
+    
+    public Long getTotalEntries() {
+        return totalEntries;
+    }
+    
+    public void setTotalEntries(Long totalEntries) {
+        this.totalEntries = totalEntries;
+    }
+    
+    public Long getActiveEntries() {
+        return activeEntries;
+    }
+    
+    public void setActiveEntries(Long activeEntries) {
+        this.activeEntries = activeEntries;
+    }
+    
+    public Long getLatestEntryId() {
+        return latestEntryId;
+    }
+    
+    public void setLatestEntryId(Long latestEntryId) {
+        this.latestEntryId = latestEntryId;
+    }
+    
+    public LocalDate getCounterDate() {
+        return counterDate;
+    }
+    
+    public void setCounterDate(LocalDate counterDate) {
+        this.counterDate = counterDate;
+    }
+    
+    public Double getDayHours() {
+        return dayHours;
+    }
+    
+    public void setDayHours(Double dayHours) {
+        this.dayHours = dayHours;
+    }
+    
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+    
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+    
+    public Double getWeekRegularHours() {
+        return weekRegularHours;
+    }
+    
+    public void setWeekRegularHours(Double weekRegularHours) {
+        this.weekRegularHours = weekRegularHours;
+    }
+    
+    public boolean isCurrentlyActive() {
+        return activeEntries != null && activeEntries > 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.clockin.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Highest punch journal sequence already written to time_entries. Updated in the same
+ * transaction as the punches, so a replay after a crash never applies a punch twice.
+ */
+@Entity
+@Table(name = "punch_journal_checkpoints")
+public class JournalCheckpoint {
+    
+    @Id
+    @Column(name = "journal_id")
+    private String journalId;
+    
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+    
+    // Constructors
+    public JournalCheckpoint() {}
+    
+    public JournalCheckpoint(String journalId, Long lastSequence) {
+        this.journalId = journalId;
+        this.lastSequence = lastSequence;
+    }
+    
+    // Getters and Setters
+    public String getJournalId() {
+        return journalId;
+    }
+    
+    public void setJournalId(String journalId) {
+        this.journalId = journalId;
+    }
+    
+    public Long getLastSequence() {
+        return lastSequence;
+    }
+    
+    public void setLastSequence(Long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+}
@@ -0,0 +1,83 @@
+package com.clockin.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// A closed pay period; its hours are frozen in pay_period_days and never recomputed
+@Entity
+@Table(name = "pay_periods", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_pay_periods_tenant_start_date", columnNames = {"tenant_id", "start_date"})
+})
+public class PayPeriod {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", length = 64, updatable = false)
+    private String tenantId;
+    
+    @Column(name = "start_date", nullable = false, updatable = false)
+    private LocalDate startDate;
+    
+    @Column(name = "end_date", nullable = false, updatable = false)
+    private LocalDate endDate;
+    
+    @Column(name = "closed_at", nullable = false, updatable = false)
+    private LocalDateTime closedAt;
+    
+    // Constructors
+    public PayPeriod() {}
+    
+    public PayPeriod(LocalDate startDate, LocalDate endDate, LocalDateTime closedAt) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.closedAt = closedAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+    
+    public LocalDateTime getClosedAt() {
+        return closedAt;
+    }
+    
+    public void setClosedAt(LocalDateTime closedAt) {
+        this.closedAt = closedAt;
+    }
+}
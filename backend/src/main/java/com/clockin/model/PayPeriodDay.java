@@ -0,0 +1,147 @@
+package com.clockin.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDate;
+
+// One employee's frozen hours for one day of a closed pay period
+@Entity
+@Table(name = "pay_period_days", indexes = {
+        @Index(name = "idx_pay_period_days_tenant_work_date", columnList = "tenant_id, work_date")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_pay_period_days_employee_date", columnNames = {"employee_id", "work_date"})
+})
+public class PayPeriodDay {
+    
+    // Sequence ids (unlike IDENTITY) let Hibernate batch inserts
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pay_period_days_seq")
+    @SequenceGenerator(name = "pay_period_days_seq", sequenceName = "pay_period_days_seq", allocationSize = 50)
+    private Long id;
+    
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", length = 64, updatable = false)
+    private String tenantId;
+    
+    @Column(name = "pay_period_id", nullable = false, updatable = false)
+    private Long payPeriodId;
+    
+    @Column(name = "employee_id", nullable = false, updatable = false)
+    private Long employeeId;
+    
+    @Column(name = "first_name", nullable = false, updatable = false)
+    private String firstName;
+    
+    @Column(name = "last_name", nullable = false, updatable = false)
+    private String lastName;
+    
+    @Column(name = "work_date", nullable = false, updatable = false)
+    private LocalDate workDate;
+    
+    @Column(name = "regular_hours", nullable = false, updatable = false)
+    private Double regularHours;
+    
+    @Column(name = "overtime_hours", nullable = false, updatable = false)
+    private Double overtimeHours;
+    
+    @Column(name = "entry_count", nullable = false, updatable = false)
+    private Long entryCount;
+    
+    // Constructors
+    public PayPeriodDay() {}
+    
+    public PayPeriodDay(Long payPeriodId, Long employeeId, String firstName, String lastName, LocalDate workDate,
+                        Double regularHours, Double overtimeHours, Long entryCount) {
+        this.payPeriodId = payPeriodId;
+        this.employeeId = employeeId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.workDate = workDate;
+        this.regularHours = regularHours;
+        this.overtimeHours = overtimeHours;
+        this.entryCount = entryCount;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public Long getPayPeriodId() {
+        return payPeriodId;
+    }
+    
+    public void setPayPeriodId(Long payPeriodId) {
+        this.payPeriodId = payPeriodId;
+    }
+    
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+    
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public LocalDate getWorkDate() {
+        return workDate;
+    }
+    
+    public void setWorkDate(LocalDate workDate) {
+        this.workDate = workDate;
+    }
+    
+    public Double getRegularHours() {
+        return regularHours;
+    }
+    
+    public void setRegularHours(Double regularHours) {
+        this.regularHours = regularHours;
+    }
+    
+    public Double getOvertimeHours() {
+        return overtimeHours;
+    }
+    
+    public void setOvertimeHours(Double overtimeHours) {
+        this.overtimeHours = overtimeHours;
+    }
+    
+    public Long getEntryCount() {
+        return entryCount;
+    }
+    
+    public void setEntryCount(Long entryCount) {
+        this.entryCount = entryCount;
+    }
+}
@@ -0,0 +1,135 @@
+package com.clockin.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDateTime;
+
+/**
+ * A journaled punch the database would not take when it was flushed, e.g. because its day was
+ * closed for payroll in the meantime. The punch was already acknowledged, so it is kept here for
+ * an admin to re-enter rather than dropped.
+ */
+@Entity
+@Table(name = "rejected_punches", indexes = {
+        @Index(name = "idx_rejected_punches_tenant_id", columnList = "tenant_id, id")
+})
+public class RejectedPunch {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", length = 64, updatable = false)
+    private String tenantId;
+    
+    @Column(name = "journal_sequence", nullable = false, updatable = false)
+    private Long journalSequence;
+    
+    @Column(name = "punch_type", length = 32, updatable = false)
+    private String punchType;
+    
+    @Column(name = "first_name", updatable = false)
+    private String firstName;
+    
+    @Column(name = "last_name", updatable = false)
+    private String lastName;
+    
+    @Column(name = "punch_time", updatable = false)
+    private LocalDateTime punchTime;
+    
+    @Column(name = "error", nullable = false, updatable = false)
+    private String error;
+    
+    @Column(name = "rejected_at", nullable = false, updatable = false)
+    private LocalDateTime rejectedAt;
+    
+    // Constructors
+    public RejectedPunch() {}
+    
+    public RejectedPunch(long journalSequence, String punchType, String firstName, String lastName,
+                         LocalDateTime punchTime, String error, LocalDateTime rejectedAt) {
+        this.journalSequence = journalSequence;
+        this.punchType = punchType;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.punchTime = punchTime;
+        this.error = error;
+        this.rejectedAt = rejectedAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public Long getJournalSequence() {
+        return journalSequence;
+    }
+    
+    public void setJournalSequence(Long journalSequence) {
+        this.journalSequence = journalSequence;
+    }
+    
+    public String getPunchType() {
+        return punchType;
+    }
+    
+    public void setPunchType(String punchType) {
+        this.punchType = punchType;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public LocalDateTime getPunchTime() {
+        return punchTime;
+    }
+    
+    public void setPunchTime(LocalDateTime punchTime) {
+        this.punchTime = punchTime;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+    
+    public LocalDateTime getRejectedAt() {
+        return rejectedAt;
+    }
+    
+    public void setRejectedAt(LocalDateTime rejectedAt) {
+        this.rejectedAt = rejectedAt;
+    }
+}
@@ -0,0 +1,168 @@
+package com.clockin.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Something an admin should look at: overtime on a day or week, or a session nobody clocked out of
+@Entity
+@Table(name = "time_alerts", indexes = {
+        @Index(name = "idx_time_alerts_tenant_open", columnList = "tenant_id, resolved_at, id"),
+        @Index(name = "idx_time_alerts_entry_type", columnList = "entry_id, alert_type"),
+        @Index(name = "idx_time_alerts_employee_type_date", columnList = "employee_id, alert_type, work_date")
+})
+public class TimeAlert {
+    
+    public enum Type { DAILY_OVERTIME, WEEKLY_OVERTIME, FORGOTTEN_CLOCK_OUT }
+    
+    public static final int ID_ALLOCATION_SIZE = 50;
+    
+    // Sequence ids (unlike IDENTITY) let Hibernate batch the inserts of one sweep or clock-out
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_alerts_seq")
+    @SequenceGenerator(name = "time_alerts_seq", sequenceName = "time_alerts_seq", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+    
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", length = 64, updatable = false)
+    private String tenantId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_type", length = 32, nullable = false, updatable = false)
+    private Type type;
+    
+    @Column(name = "employee_id", nullable = false, updatable = false)
+    private Long employeeId;
+    
+    @Column(name = "first_name", nullable = false, updatable = false)
+    private String firstName;
+    
+    @Column(name = "last_name", nullable = false, updatable = false)
+    private String lastName;
+    
+    // The entry that tipped the day or week over, or the one left open
+    @Column(name = "entry_id", nullable = false, updatable = false)
+    private Long entryId;
+    
+    // The day for daily overtime and forgotten clock-outs, the week start for weekly overtime
+    @Column(name = "work_date", nullable = false, updatable = false)
+    private LocalDate workDate;
+    
+    // Hours worked that day or week, or hours the session had been open, when raised
+    @Column(name = "hours", nullable = false, updatable = false)
+    private Double hours;
+    
+    @Column(name = "raised_at", nullable = false, updatable = false)
+    private LocalDateTime raisedAt;
+    
+    // Set when an admin dismisses the alert, or when a forgotten session is clocked out
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+    
+    // Constructors
+    public TimeAlert() {}
+    
+    public TimeAlert(Type type, TimeEntry entry, LocalDate workDate, double hours, LocalDateTime raisedAt) {
+        this.type = type;
+        this.tenantId = entry.getTenantId();
+        this.employeeId = entry.getEmployee().getId();
+        this.firstName = entry.getFirstName();
+        this.lastName = entry.getLastName();
+        this.entryId = entry.getId();
+        this.workDate = workDate;
+        this.hours = hours;
+        this.raisedAt = raisedAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    public void setType(Type type) {
+        this.type = type;
+    }
+    
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+    
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public Long getEntryId() {
+        return entryId;
+    }
+    
+    public void setEntryId(Long entryId) {
+        this.entryId = entryId;
+    }
+    
+    public LocalDate getWorkDate() {
+        return workDate;
+    }
+    
+    public void setWorkDate(LocalDate workDate) {
+        this.workDate = workDate;
+    }
+    
+    public Double getHours() {
+        return hours;
+    }
+    
+    public void setHours(Double hours) {
+        this.hours = hours;
+    }
+    
+    public LocalDateTime getRaisedAt() {
+        return raisedAt;
+    }
+    
+    public void setRaisedAt(LocalDateTime raisedAt) {
+        this.raisedAt = raisedAt;
+    }
+    
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+    
+    public void setResolvedAt(LocalDateTime resolvedAt) {
+        this.resolvedAt = resolvedAt;
+    }
+}
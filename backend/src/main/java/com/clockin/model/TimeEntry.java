@@ -1,16 +1,49 @@
 package com.clockin.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
 
+// Cached by id only: queries over time_entries are not, since every punch would invalidate them
 @Entity
-@Table(name = "time_entries")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "time_entries", indexes = {
+        @Index(name = "idx_time_entries_employee_active", columnList = "employee_id, is_active"),
+        @Index(name = "idx_time_entries_active_clock_in", columnList = "is_active, clock_in_time"),
+        @Index(name = "idx_time_entries_employee_clock_in", columnList = "employee_id, clock_in_time"),
+        @Index(name = "idx_time_entries_tenant_clock_in", columnList = "tenant_id, clock_in_time, id")
+})
 public class TimeEntry {
     
+    // Unique index on active_employee_id, created by DatabaseMigrations rather than declared here
+    // because a partitioned table needs one per partition (see TimeEntryPartitioning)
+    public static final String ACTIVE_SESSION_CONSTRAINT = "uk_time_entries_active_employee";
+    
+    public static final int ID_ALLOCATION_SIZE = 50;
+    
+    // Sequence ids (unlike IDENTITY) let Hibernate batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_entries_seq")
+    @SequenceGenerator(name = "time_entries_seq", sequenceName = "time_entries_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
+    // Set from the current tenant on insert, and added by Hibernate to every query on this entity.
+    // The default fills in rows written before sites existed when the column is added.
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", length = 64, updatable = false)
+    private String tenantId;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id")
+    private Employee employee;
+    
+    // Names are kept on the row so responses can be built without joining employees
+    
     @Column(name = "first_name", nullable = false)
     private String firstName;
     
@@ -29,14 +62,26 @@ public class TimeEntry {
     @Column(name = "is_active")
     private Boolean isActive = true;
     
+    // Holds employee_id only while the entry is open. NULLs never collide, so the unique
+    // index allows one active session per employee on both H2 and PostgreSQL.
+    @Column(name = "active_employee_id")
+    private Long activeEmployeeId;
+    
     // Constructors
     public TimeEntry() {}
     
-    public TimeEntry(String firstName, String lastName) {
-        this.firstName = firstName;
-        this.lastName = lastName;
-        this.clockInTime = LocalDateTime.now();
+    public TimeEntry(Employee employee) {
+        this(employee, LocalDateTime.now());
+    }
+    
+    public TimeEntry(Employee employee, LocalDateTime clockInTime) {
+        this.employee = employee;
+        this.tenantId = employee.getTenantId();
+        this.firstName = employee.getFirstName();
+        this.lastName = employee.getLastName();
+        this.clockInTime = clockInTime;
         this.isActive = true;
+        this.activeEmployeeId = employee.getId();
     }
     
     // Getters and Setters
@@ -48,6 +93,22 @@ public class TimeEntry {
         this.id = id;
     }
     
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public Employee getEmployee() {
+        return employee;
+    }
+    
+    public void setEmployee(Employee employee) {
+        this.employee = employee;
+    }
+    
     public String getFirstName() {
         return firstName;
     }
@@ -95,4 +156,12 @@ public class TimeEntry {
     public void setIsActive(Boolean isActive) {
         this.isActive = isActive;
     }
+    
+    public Long getActiveEmployeeId() {
+        return activeEmployeeId;
+    }
+    
+    public void setActiveEmployeeId(Long activeEmployeeId) {
+        this.activeEmployeeId = activeEmployeeId;
+    }
 } 
\ No newline at end of file
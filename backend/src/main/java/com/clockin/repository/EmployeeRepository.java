@@ -0,0 +1,62 @@
+package com.clockin.repository;
+
+import com.clockin.model.Employee;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+    
+    // Runs on every clock-in, history page and admin detail view
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Employee.LOOKUP_CACHE_REGION)
+    })
+    Optional<Employee> findByFirstNameAndLastName(String firstName, String lastName);
+    
+    List<Employee> findByFirstNameIn(Collection<String> firstNames);
+    
+    // Clock-ins take the employee's row lock before checking for an open entry, so two of them for the
+    // same employee run one after the other even where the active-session index cannot span the table
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e.id FROM Employee e WHERE e.id = :id")
+    Optional<Long> lockById(@Param("id") Long id);
+    
+    // Ordered by id so concurrent batches take the locks in the same order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids ORDER BY e.id")
+    List<Long> lockByIds(@Param("ids") Collection<Long> ids);
+    
+    // Only meaningful outside a tenant, where every tenant's employees are visible
+    @Query("SELECT DISTINCT e.tenantId FROM Employee e")
+    List<String> findTenantIds();
+    
+    // Migration helpers for rows written before time_entries referenced employees
+    @Modifying
+    @Query(value = "INSERT INTO employees (tenant_id, first_name, last_name) " +
+                   "SELECT DISTINCT t.tenant_id, t.first_name, t.last_name FROM time_entries t " +
+                   "WHERE t.employee_id IS NULL AND NOT EXISTS (SELECT 1 FROM employees e " +
+                   "WHERE e.tenant_id = t.tenant_id AND e.first_name = t.first_name AND e.last_name = t.last_name)",
+           nativeQuery = true)
+    int insertMissingFromTimeEntries();
+    
+    @Modifying
+    @Query(value = "UPDATE time_entries t SET employee_id = (" +
+                   "SELECT e.id FROM employees e WHERE e.tenant_id = t.tenant_id " +
+                   "AND e.first_name = t.first_name AND e.last_name = t.last_name) " +
+                   "WHERE t.employee_id IS NULL",
+           nativeQuery = true)
+    int linkUnassignedTimeEntries();
+}
@@ -0,0 +1,60 @@
+package com.clockin.repository;
+
+import com.clockin.model.EmployeeSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmployeeSummaryRepository extends JpaRepository<EmployeeSummary, Long> {
+    
+    List<EmployeeSummary> findAllByOrderByFirstNameAscLastNameAsc(Pageable pageable);
+    
+    @Query("SELECT s FROM EmployeeSummary s WHERE s.firstName > :firstName " +
+           "OR (s.firstName = :firstName AND s.lastName > :lastName) " +
+           "ORDER BY s.firstName ASC, s.lastName ASC")
+    List<EmployeeSummary> findPageAfter(@Param("firstName") String firstName,
+                                        @Param("lastName") String lastName,
+                                        Pageable pageable);
+    
+    Optional<EmployeeSummary> findByEmployeeId(Long employeeId);
+    
+    List<EmployeeSummary> findByEmployeeIdIn(Collection<Long> employeeIds);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EmployeeSummary s WHERE s.employeeId = :employeeId")
+    Optional<EmployeeSummary> findByEmployeeIdForUpdate(@Param("employeeId") Long employeeId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EmployeeSummary s WHERE s.employeeId IN :employeeIds")
+    List<EmployeeSummary> findByEmployeeIdsForUpdate(@Param("employeeIds") Collection<Long> employeeIds);
+    
+    @Modifying
+    @Query(value = "UPDATE employee_summaries s SET employee_id = (" +
+                   "SELECT e.id FROM employees e WHERE e.tenant_id = s.tenant_id " +
+                   "AND e.first_name = s.first_name AND e.last_name = s.last_name) " +
+                   "WHERE s.employee_id IS NULL",
+           nativeQuery = true)
+    int linkUnassignedSummaries();
+    
+    @Query("SELECT COUNT(s) AS totalEmployees, COALESCE(SUM(s.activeEntries), 0) AS currentlyActive, " +
+           "COALESCE(SUM(s.totalHours), 0.0) AS totalHours, COALESCE(SUM(s.totalEntries), 0) AS totalEntries " +
+           "FROM EmployeeSummary s")
+    Totals summarizeAll();
+    
+    interface Totals {
+        Long getTotalEmployees();
+        Long getCurrentlyActive();
+        Double getTotalHours();
+        Long getTotalEntries();
+    }
+}
@@ -0,0 +1,30 @@
+package com.clockin.repository;
+
+import com.clockin.model.PayPeriodDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PayPeriodDayRepository extends JpaRepository<PayPeriodDay, Long> {
+    
+    @Query("SELECT d.employeeId AS employeeId, d.firstName AS firstName, d.lastName AS lastName, " +
+           "SUM(d.regularHours) AS regularHours, SUM(d.overtimeHours) AS overtimeHours, SUM(d.entryCount) AS entryCount, " +
+           "COUNT(d) AS dayCount FROM PayPeriodDay d WHERE d.workDate >= :from AND d.workDate <= :to " +
+           "GROUP BY d.employeeId, d.firstName, d.lastName")
+    List<EmployeePayTotals> summarizeByEmployee(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    interface EmployeePayTotals {
+        Long getEmployeeId();
+        String getFirstName();
+        String getLastName();
+        Double getRegularHours();
+        Double getOvertimeHours();
+        Long getEntryCount();
+        Long getDayCount();
+    }
+}
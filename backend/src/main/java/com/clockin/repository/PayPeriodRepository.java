@@ -0,0 +1,16 @@
+package com.clockin.repository;
+
+import com.clockin.model.PayPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PayPeriodRepository extends JpaRepository<PayPeriod, Long> {
+    
+    Optional<PayPeriod> findTopByOrderByEndDateDesc();
+    
+    List<PayPeriod> findAllByOrderByStartDateDesc();
+}
@@ -0,0 +1,9 @@
+package com.clockin.repository;
+
+import com.clockin.model.RejectedPunch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RejectedPunchRepository extends JpaRepository<RejectedPunch, Long> {
+}
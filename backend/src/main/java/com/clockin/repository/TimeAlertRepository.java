@@ -0,0 +1,44 @@
+package com.clockin.repository;
+
+import com.clockin.model.TimeAlert;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TimeAlertRepository extends JpaRepository<TimeAlert, Long> {
+    
+    // Keyset pagination over open alerts, newest first; callers pass a Pageable for the page size only
+    List<TimeAlert> findByResolvedAtIsNullOrderByIdDesc(Pageable pageable);
+    
+    List<TimeAlert> findByResolvedAtIsNullAndIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+    
+    // findById loads by primary key, which Hibernate does not filter by @TenantId; a query is filtered
+    @Query("SELECT a FROM TimeAlert a WHERE a.id = :id")
+    Optional<TimeAlert> findInTenantById(@Param("id") Long id);
+    
+    boolean existsByEmployeeIdAndTypeAndWorkDate(Long employeeId, TimeAlert.Type type, LocalDate workDate);
+    
+    @Modifying
+    @Query("UPDATE TimeAlert a SET a.resolvedAt = :resolvedAt " +
+           "WHERE a.entryId = :entryId AND a.type = :type AND a.resolvedAt IS NULL")
+    int resolveOpen(@Param("entryId") Long entryId,
+                    @Param("type") TimeAlert.Type type,
+                    @Param("resolvedAt") LocalDateTime resolvedAt);
+    
+    // Catches sessions closed while the sweep was raising their alert
+    @Modifying
+    @Query("UPDATE TimeAlert a SET a.resolvedAt = :resolvedAt " +
+           "WHERE a.type = :type AND a.resolvedAt IS NULL " +
+           "AND NOT EXISTS (SELECT t.id FROM TimeEntry t WHERE t.id = a.entryId AND t.isActive = true)")
+    int resolveClosedSessions(@Param("type") TimeAlert.Type type,
+                              @Param("resolvedAt") LocalDateTime resolvedAt);
+}
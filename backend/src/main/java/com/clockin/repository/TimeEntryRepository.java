@@ -1,23 +1,186 @@
 package com.clockin.repository;
 
+import com.clockin.dto.ArchivedTimeEntry;
+import com.clockin.dto.DailyHours;
+import com.clockin.dto.TimeEntryResponse;
+import com.clockin.model.TimeAlert;
 import com.clockin.model.TimeEntry;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TimeEntryRepository extends JpaRepository<TimeEntry, Long> {
     
-    List<TimeEntry> findByFirstNameAndLastNameOrderByClockInTimeDesc(String firstName, String lastName);
+    // Rows per round trip for the full-table admin scans below. PostgreSQL only streams with a
+    // fetch size inside a transaction, so callers hold a read-only one while they iterate.
+    String SCAN_FETCH_SIZE = "1000";
     
-    Optional<TimeEntry> findByFirstNameAndLastNameAndIsActiveTrue(String firstName, String lastName);
+    List<TimeEntry> findByEmployeeIdOrderByClockInTimeDesc(Long employeeId);
     
-    @Query("SELECT t FROM TimeEntry t WHERE t.firstName = :firstName AND t.lastName = :lastName AND t.clockInTime >= :startDate ORDER BY t.clockInTime DESC")
-    List<TimeEntry> findByEmployeeAndDateRange(@Param("firstName") String firstName, 
-                                              @Param("lastName") String lastName, 
-                                              @Param("startDate") java.time.LocalDateTime startDate);
+    @Query("SELECT MAX(t.id) FROM TimeEntry t WHERE t.employee.id = :employeeId AND t.isActive = true")
+    Optional<Long> findActiveEntryId(@Param("employeeId") Long employeeId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TimeEntry t WHERE t.id = :id")
+    Optional<TimeEntry> findByIdForUpdate(@Param("id") Long id);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TimeEntry t WHERE t.employee.id IN :employeeIds AND t.isActive = true ORDER BY t.clockInTime DESC")
+    List<TimeEntry> findActiveByEmployeeIdsForUpdate(@Param("employeeIds") Collection<Long> employeeIds);
+    
+    @Query("SELECT t FROM TimeEntry t JOIN FETCH t.employee WHERE t.isActive = true")
+    List<TimeEntry> findByIsActiveTrue();
+    
+    // Open entries clocked in before the cutoff that have no alert of this type yet; the
+    // (is_active, clock_in_time) index keeps this to the stale sessions themselves
+    @Query("SELECT t FROM TimeEntry t JOIN FETCH t.employee WHERE t.isActive = true AND t.clockInTime < :cutoff " +
+           "AND NOT EXISTS (SELECT a.id FROM TimeAlert a WHERE a.entryId = t.id AND a.type = :type)")
+    List<TimeEntry> findActiveWithoutAlert(@Param("cutoff") LocalDateTime cutoff,
+                                           @Param("type") TimeAlert.Type type);
+    
+    // Keyset pagination over (clockInTime DESC, id DESC); callers pass a Pageable for the page size only
+    List<TimeEntry> findByEmployeeIdOrderByClockInTimeDescIdDesc(Long employeeId, Pageable pageable);
+    
+    @Query("SELECT t FROM TimeEntry t WHERE t.employee.id = :employeeId " +
+           "AND (t.clockInTime < :clockInTime OR (t.clockInTime = :clockInTime AND t.id < :id)) " +
+           "ORDER BY t.clockInTime DESC, t.id DESC")
+    List<TimeEntry> findPageAfter(@Param("employeeId") Long employeeId,
+                                  @Param("clockInTime") LocalDateTime clockInTime,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = SCAN_FETCH_SIZE))
+    @Query("SELECT new com.clockin.dto.TimeEntryResponse(t.id, t.firstName, t.lastName, t.clockInTime, " +
+           "t.clockOutTime, t.totalHours, t.isActive) FROM TimeEntry t " +
+           "ORDER BY t.employee.id, t.clockInTime DESC, t.id DESC")
+    Stream<TimeEntryResponse> streamAllGroupedByEmployee();
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = SCAN_FETCH_SIZE))
+    @Query("SELECT new com.clockin.dto.TimeEntryResponse(t.id, t.firstName, t.lastName, t.clockInTime, " +
+           "t.clockOutTime, t.totalHours, t.isActive) FROM TimeEntry t " +
+           "WHERE t.clockInTime >= :startDate AND t.clockInTime < :endDate ORDER BY t.clockInTime, t.id")
+    Stream<TimeEntryResponse> streamByClockInRange(@Param("startDate") LocalDateTime startDate,
+                                                   @Param("endDate") LocalDateTime endDate);
+    
+    @Query("SELECT t FROM TimeEntry t WHERE t.employee.id = :employeeId " +
+           "AND t.clockInTime >= :startDate AND t.clockInTime < :endDate ORDER BY t.clockInTime DESC")
+    List<TimeEntry> findByEmployeeAndDateRange(@Param("employeeId") Long employeeId,
+                                              @Param("startDate") LocalDateTime startDate,
+                                              @Param("endDate") LocalDateTime endDate);
+    
+    @Query("SELECT COUNT(t) AS totalEntries, COALESCE(SUM(CASE WHEN t.isActive = true THEN 1 ELSE 0 END), 0) AS activeEntries, " +
+           "COALESCE(SUM(t.totalHours), 0.0) AS totalHours FROM TimeEntry t WHERE t.employee.id = :employeeId " +
+           "AND t.clockInTime >= :startDate AND t.clockInTime < :endDate")
+    RangeTotals summarizeRange(@Param("employeeId") Long employeeId,
+                               @Param("startDate") LocalDateTime startDate,
+                               @Param("endDate") LocalDateTime endDate);
+    
+    // Per-day totals for one employee, bucketed by clock-in date in the database
+    @Query("SELECT new com.clockin.dto.DailyHours(cast(t.clockInTime as LocalDate), COALESCE(SUM(t.totalHours), 0.0), COUNT(t)) " +
+           "FROM TimeEntry t WHERE t.employee.id = :employeeId " +
+           "AND t.clockInTime >= :startDate AND t.clockInTime < :endDate " +
+           "GROUP BY cast(t.clockInTime as LocalDate) ORDER BY cast(t.clockInTime as LocalDate) DESC")
+    List<DailyHours> sumHoursByDay(@Param("employeeId") Long employeeId,
+                                   @Param("startDate") LocalDateTime startDate,
+                                   @Param("endDate") LocalDateTime endDate);
+    
+    // Per-employee, per-day totals across everyone, for payroll
+    @Query("SELECT e.id AS employeeId, e.firstName AS firstName, e.lastName AS lastName, " +
+           "cast(t.clockInTime as LocalDate) AS workDate, COALESCE(SUM(t.totalHours), 0.0) AS totalHours, COUNT(t) AS entryCount " +
+           "FROM TimeEntry t JOIN t.employee e WHERE t.clockInTime >= :startDate AND t.clockInTime < :endDate " +
+           "GROUP BY e.id, e.firstName, e.lastName, cast(t.clockInTime as LocalDate) " +
+           "ORDER BY e.id, cast(t.clockInTime as LocalDate)")
+    List<EmployeeDayTotals> sumHoursByEmployeeAndDay(@Param("startDate") LocalDateTime startDate,
+                                                    @Param("endDate") LocalDateTime endDate);
+    
+    boolean existsByIsActiveTrueAndClockInTimeLessThan(LocalDateTime clockInTime);
+    
+    @Query("SELECT MIN(t.clockInTime) FROM TimeEntry t WHERE t.isActive = false")
+    Optional<LocalDateTime> findOldestClosedClockInTime();
+    
+    // Archive files are read one employee at a time, so rows are written grouped by employee
+    @Query("SELECT new com.clockin.dto.ArchivedTimeEntry(t.id, e.id, t.firstName, t.lastName, t.clockInTime, " +
+           "t.clockOutTime, t.totalHours) FROM TimeEntry t JOIN t.employee e WHERE t.isActive = false " +
+           "AND t.clockInTime >= :startDate AND t.clockInTime < :endDate ORDER BY e.id, t.clockInTime DESC, t.id DESC")
+    List<ArchivedTimeEntry> findClosedForArchive(@Param("startDate") LocalDateTime startDate,
+                                                 @Param("endDate") LocalDateTime endDate);
+    
+    @Modifying
+    @Query("DELETE FROM TimeEntry t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT e.id AS employeeId, e.tenantId AS tenantId, e.firstName AS firstName, e.lastName AS lastName, " +
+           "COUNT(t) AS totalEntries, SUM(CASE WHEN t.isActive = true THEN 1 ELSE 0 END) AS activeEntries, " +
+           "COALESCE(SUM(t.totalHours), 0.0) AS totalHours, MAX(t.id) AS latestEntryId " +
+           "FROM TimeEntry t JOIN t.employee e GROUP BY e.id, e.tenantId, e.firstName, e.lastName")
+    List<EmployeeTotals> summarizeByEmployee();
+    
+    @Query("SELECT e.id AS employeeId, e.tenantId AS tenantId, e.firstName AS firstName, e.lastName AS lastName, " +
+           "COUNT(t) AS totalEntries, SUM(CASE WHEN t.isActive = true THEN 1 ELSE 0 END) AS activeEntries, " +
+           "COALESCE(SUM(t.totalHours), 0.0) AS totalHours, MAX(t.id) AS latestEntryId " +
+           "FROM TimeEntry t JOIN t.employee e WHERE e.id = :employeeId GROUP BY e.id, e.tenantId, e.firstName, e.lastName")
+    Optional<EmployeeTotals> summarizeEmployee(@Param("employeeId") Long employeeId);
+    
+    // Claims the active-session slot for rows written before the constraint existed; where
+    // duplicates slipped in, only the newest open entry per employee gets it
+    @Modifying
+    @Query(value = "UPDATE time_entries t SET active_employee_id = t.employee_id " +
+                   "WHERE t.is_active = true AND t.active_employee_id IS NULL AND t.employee_id IS NOT NULL " +
+                   "AND t.id = (SELECT MAX(t2.id) FROM time_entries t2 WHERE t2.employee_id = t.employee_id AND t2.is_active = true) " +
+                   "AND NOT EXISTS (SELECT 1 FROM time_entries t3 WHERE t3.active_employee_id = t.employee_id)",
+           nativeQuery = true)
+    int claimActiveSessionSlots();
+    
+    // Every entry clocked in at exactly one of these times, found through idx_time_entries_tenant_clock_in;
+    // callers match (employee, clock-in) pairs themselves
+    @Query("SELECT t.employee.id AS employeeId, t.clockInTime AS clockInTime FROM TimeEntry t " +
+           "WHERE t.clockInTime IN :clockInTimes")
+    List<EmployeeClockIn> findClockIns(@Param("clockInTimes") Collection<LocalDateTime> clockInTimes);
+    
+    interface RangeTotals {
+        Long getTotalEntries();
+        Long getActiveEntries();
+        Double getTotalHours();
+    }
+    
+    interface EmployeeDayTotals {
+        Long getEmployeeId();
+        String getFirstName();
+        String getLastName();
+        LocalDate getWorkDate();
+        Double getTotalHours();
+        Long getEntryCount();
+    }
+    
+    interface EmployeeClockIn {
+        Long getEmployeeId();
+        LocalDateTime getClockInTime();
+    }
+    
+    interface EmployeeTotals {
+        Long getEmployeeId();
+        String getTenantId();
+        String getFirstName();
+        String getLastName();
+        Long getTotalEntries();
+        Long getActiveEntries();
+        Double getTotalHours();
+        Long getLatestEntryId();
+    }
 } 
\ No newline at end of file
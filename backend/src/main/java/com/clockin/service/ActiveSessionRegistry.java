@@ -0,0 +1,115 @@
+package com.clockin.service;
+
+import com.clockin.model.TimeEntry;
+import com.clockin.repository.TimeEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory view of every open time entry, keyed by tenant and employee name so status checks
+ * never need a database round trip. Loaded at startup, updated after each clock-in/out
+ * commits, and periodically reconciled against time_entries to repair drift.
+ */
+@Component
+public class ActiveSessionRegistry {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ActiveSessionRegistry.class);
+    
+    private final Map<TenantEmployeeName, ActiveSession> sessions = new ConcurrentHashMap<>();
+    
+    // Bumped on every change so reconciliation can tell it raced with a live update
+    private final AtomicLong changeCount = new AtomicLong();
+    
+    private volatile boolean loaded = false;
+    
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+    
+    public boolean isLoaded() {
+        return loaded;
+    }
+    
+    public Optional<ActiveSession> find(String firstName, String lastName) {
+        return Optional.ofNullable(sessions.get(TenantEmployeeName.inCurrentTenant(firstName, lastName)));
+    }
+    
+    public int size() {
+        return sessions.size();
+    }
+    
+    @TransactionalEventListener
+    public void onClockEvent(ClockEvent event) {
+        TenantEmployeeName key = new TenantEmployeeName(event.getTenantId(), event.getFirstName(), event.getLastName());
+        if (event.getType() == ClockEvent.Type.CLOCK_IN) {
+            sessions.put(key, new ActiveSession(event.getEntryId(), event.getEmployeeId(),
+                    event.getFirstName(), event.getLastName(), event.getClockInTime()));
+        } else {
+            sessions.computeIfPresent(key, (k, session) ->
+                    session.entryId().equals(event.getEntryId()) ? null : session);
+        }
+        changeCount.incrementAndGet();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+        loaded = true;
+    }
+    
+    // Runs outside any tenant, so the scan covers every site
+    @Scheduled(initialDelayString = "${clockin.active-sessions.reconcile-interval-ms:60000}",
+               fixedDelayString = "${clockin.active-sessions.reconcile-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        long changesBefore = changeCount.get();
+        
+        Map<TenantEmployeeName, ActiveSession> actual = new HashMap<>();
+        for (TimeEntry entry : timeEntryRepository.findByIsActiveTrue()) {
+            TenantEmployeeName key = new TenantEmployeeName(entry.getTenantId(), entry.getFirstName(), entry.getLastName());
+            actual.put(key, new ActiveSession(entry.getId(), entry.getEmployee().getId(),
+                    entry.getFirstName(), entry.getLastName(), entry.getClockInTime()));
+        }
+        
+        // A clock-in/out committed while we were reading; the snapshot may already be stale
+        if (changeCount.get() != changesBefore) {
+            logger.debug("Skipping active session reconciliation, sessions changed during scan");
+            return;
+        }
+        
+        int removed = 0;
+        for (TenantEmployeeName key : sessions.keySet()) {
+            if (!actual.containsKey(key)) {
+                sessions.remove(key);
+                removed++;
+            }
+        }
+        int added = 0;
+        for (Map.Entry<TenantEmployeeName, ActiveSession> entry : actual.entrySet()) {
+            ActiveSession previous = sessions.put(entry.getKey(), entry.getValue());
+            if (previous == null || !previous.entryId().equals(entry.getValue().entryId())) {
+                added++;
+            }
+        }
+        
+        if (loaded && (added > 0 || removed > 0)) {
+            logger.warn("Active session registry drifted from time_entries: {} added, {} removed", added, removed);
+        }
+    }
+    
+    public record ActiveSession(Long entryId, Long employeeId, String firstName, String lastName,
+                                LocalDateTime clockInTime) {}
+}
@@ -0,0 +1,217 @@
+package com.clockin.service;
+
+import com.clockin.dto.AdminUpdateResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-sent events for the admin dashboard. Clock events that commit are collected per employee
+ * and published every clockin.admin-stream.flush-interval-ms as one "update" message holding the
+ * changed employees' rows and the new summary, so a burst of punches costs one rollup read no matter
+ * how many dashboards are open. Each subscriber has a small bounded buffer drained by a shared sender
+ * pool; a subscriber that falls a full buffer behind is disconnected and reloads when it reconnects.
+ * Subscribers only hear about their own tenant.
+ */
+@Component
+public class AdminEventStream {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AdminEventStream.class);
+    
+    @Value("${clockin.admin-stream.max-subscribers:100}")
+    private int maxSubscribers;
+    
+    @Value("${clockin.admin-stream.buffer-size:16}")
+    private int bufferSize;
+    
+    @Value("${clockin.admin-stream.timeout-ms:3600000}")
+    private long timeoutMs;
+    
+    @Value("${clockin.admin-stream.sender-threads:2}")
+    private int senderThreads;
+    
+    @Autowired
+    private TimeEntryService timeEntryService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    
+    private final Map<String, Set<Long>> changedEmployeeIds = new ConcurrentHashMap<>();
+    
+    private final AtomicLong droppedSubscribers = new AtomicLong();
+    
+    private ExecutorService sender;
+    
+    @PostConstruct
+    void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "admin-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    @PreDestroy
+    void stop() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.dropped = true;
+            scheduleDrain(subscriber);
+        }
+        sender.shutdown();
+    }
+    
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+    
+    public long getDroppedSubscriberCount() {
+        return droppedSubscribers.get();
+    }
+    
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many dashboard subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(TenantContext.current(), emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        // Let the client reconnect instead of the container answering the timeout with an error
+        emitter.onTimeout(emitter::complete);
+        subscribers.add(subscriber);
+        
+        // Flushes the headers so the client knows the stream is live and can load the full dashboard
+        enqueue(subscriber, SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+    
+    @TransactionalEventListener
+    public void onClockEvent(ClockEvent event) {
+        if (!subscribers.isEmpty() && event.getEmployeeId() != null) {
+            changedEmployeeIds.computeIfAbsent(event.getTenantId(), tenantId -> ConcurrentHashMap.newKeySet())
+                    .add(event.getEmployeeId());
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${clockin.admin-stream.flush-interval-ms:500}")
+    public void publishUpdates() {
+        for (Map.Entry<String, Set<Long>> changes : changedEmployeeIds.entrySet()) {
+            String tenantId = changes.getKey();
+            // Each id's clock event committed before it was added, so the reads below see it
+            List<Long> employeeIds = new ArrayList<>(changes.getValue());
+            changes.getValue().removeAll(employeeIds);
+            if (employeeIds.isEmpty() || subscribers.stream().noneMatch(subscriber -> subscriber.tenantId.equals(tenantId))) {
+                continue;
+            }
+            
+            AdminUpdateResponse update = TenantContext.callAs(tenantId, () -> new AdminUpdateResponse(
+                    timeEntryService.getEmployeeOverviews(employeeIds), timeEntryService.getAdminSummary()));
+            String data;
+            try {
+                // Serialized once and shared by every subscriber of the tenant
+                data = objectMapper.writeValueAsString(update);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Could not serialize dashboard update", e);
+            }
+            Set<ResponseBodyEmitter.DataWithMediaType> message = SseEmitter.event().name("update").data(data).build();
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.tenantId.equals(tenantId)) {
+                    enqueue(subscriber, message);
+                }
+            }
+        }
+    }
+    
+    // Keeps idle connections from being closed by proxies, and finds clients that went away
+    @Scheduled(fixedDelayString = "${clockin.admin-stream.heartbeat-interval-ms:25000}")
+    public void sendHeartbeat() {
+        broadcast(SseEmitter.event().comment("heartbeat").build());
+    }
+    
+    private void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> message) {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, message);
+        }
+    }
+    
+    private void enqueue(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> message) {
+        if (!subscriber.queue.offer(message) && !subscriber.dropped) {
+            // Too far behind to catch up; completing (on the sender, since send blocks) makes it reconnect
+            subscriber.dropped = true;
+            subscribers.remove(subscriber);
+            droppedSubscribers.incrementAndGet();
+            logger.info("Disconnected a dashboard subscriber that fell {} messages behind", bufferSize);
+        }
+        scheduleDrain(subscriber);
+    }
+    
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+    
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> message;
+            while (!subscriber.dropped && (message = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(message);
+            }
+            if (subscriber.dropped) {
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter already completed; the container cleans up the request
+            subscriber.dropped = true;
+            subscribers.remove(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // A message may have been queued after the last poll but before the flag was cleared
+        if (!subscriber.dropped && !subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+    
+    private static class Subscriber {
+        
+        private final String tenantId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean dropped = false;
+        
+        private Subscriber(String tenantId, SseEmitter emitter, BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue) {
+            this.tenantId = tenantId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
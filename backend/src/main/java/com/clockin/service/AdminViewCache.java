@@ -0,0 +1,148 @@
+package com.clockin.service;
+
+import com.clockin.dto.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+
+/**
+ * Keeps the cached admin views in step with the time entries they were built from.
+ * Every key starts with the tenant and ends with an epoch that is bumped when a change
+ * commits, so a view read before the commit but cached after it sits under a key no
+ * later read asks for. A clock-in/out moves the tenant's summary and pages on, but only
+ * the affected employee's weekly reports. Old entries are dropped as well to free space.
+ */
+@Component
+public class AdminViewCache {
+    
+    public static final String SUMMARY = "adminSummary";
+    public static final String EMPLOYEE_PAGES = "employeePages";
+    public static final String WEEKLY_REPORTS = "weeklyReports";
+    
+    // SpEL for the first element of every cache key
+    public static final String TENANT_KEY = "T(com.clockin.service.TenantContext).current()";
+    
+    // SpEL for the last element of summary and page keys, and of weekly report keys
+    public static final String VIEW_EPOCH = "@adminViewCache.viewEpoch()";
+    public static final String REPORT_EPOCH = "@adminViewCache.reportEpoch(#firstName, #lastName)";
+    
+    private final Map<String, AtomicLong> invalidations = new ConcurrentHashMap<>();
+    
+    // Epochs come from one counter, so a bumped epoch is newer than any value handed out
+    // before and a key built from it can never match an entry cached earlier
+    private final AtomicLong epochCounter = new AtomicLong();
+    private volatile long clearedEpoch = 0;
+    private final Map<String, Long> viewEpochs = new ConcurrentHashMap<>();
+    private final Map<String, Long> bulkEpochs = new ConcurrentHashMap<>();
+    private final Map<TenantEmployeeName, Long> employeeEpochs = new ConcurrentHashMap<>();
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @TransactionalEventListener
+    public void onClockEvent(ClockEvent event) {
+        String tenantId = event.getTenantId();
+        String firstName = event.getFirstName();
+        String lastName = event.getLastName();
+        
+        // The summary totals change with every punch, and a first clock-in can shift every page
+        viewEpochs.put(tenantId, epochCounter.incrementAndGet());
+        employeeEpochs.put(new TenantEmployeeName(tenantId, firstName, lastName), epochCounter.incrementAndGet());
+        
+        invalidate(SUMMARY, (key, value) -> isTenantKey(key, tenantId));
+        invalidate(EMPLOYEE_PAGES, (key, value) -> isTenantKey(key, tenantId));
+        
+        // Weekly report keys are [tenant, firstName, lastName, from, to, epoch]
+        invalidate(WEEKLY_REPORTS, (key, value) -> isTenantKey(key, tenantId)
+                && firstName.equals(((List<?>) key).get(1)) && lastName.equals(((List<?>) key).get(2)));
+    }
+    
+    // For bulk changes that do not come with clock events, such as imports
+    public void clear(String tenantId) {
+        viewEpochs.put(tenantId, epochCounter.incrementAndGet());
+        bulkEpochs.put(tenantId, epochCounter.incrementAndGet());
+        
+        invalidate(SUMMARY, (key, value) -> isTenantKey(key, tenantId));
+        invalidate(EMPLOYEE_PAGES, (key, value) -> isTenantKey(key, tenantId));
+        invalidate(WEEKLY_REPORTS, (key, value) -> isTenantKey(key, tenantId));
+    }
+    
+    // For bulk changes across tenants, such as archiving
+    public void clearAll() {
+        clearedEpoch = epochCounter.incrementAndGet();
+        
+        for (String name : List.of(SUMMARY, EMPLOYEE_PAGES, WEEKLY_REPORTS)) {
+            invalidate(name, (key, value) -> true);
+        }
+    }
+    
+    // Epoch of the current tenant's summary and employee pages
+    public long viewEpoch() {
+        return Math.max(clearedEpoch, viewEpochs.getOrDefault(TenantContext.current(), 0L));
+    }
+    
+    // Epoch of an employee's weekly reports in the current tenant; the newest of the bumps that cover them
+    public long reportEpoch(String firstName, String lastName) {
+        String tenantId = TenantContext.current();
+        long bulkEpoch = Math.max(clearedEpoch, bulkEpochs.getOrDefault(tenantId, 0L));
+        return Math.max(bulkEpoch,
+                employeeEpochs.getOrDefault(new TenantEmployeeName(tenantId, firstName, lastName), 0L));
+    }
+    
+    public List<CacheStatsResponse> getStats() {
+        List<CacheStatsResponse> result = new ArrayList<>();
+        for (String name : List.of(SUMMARY, EMPLOYEE_PAGES, WEEKLY_REPORTS)) {
+            Cache<Object, Object> cache = nativeCache(name);
+            if (cache == null) {
+                continue;
+            }
+            CacheStats stats = cache.stats();
+            result.add(new CacheStatsResponse(
+                    name,
+                    cache.estimatedSize(),
+                    stats.hitCount(),
+                    stats.missCount(),
+                    Math.round(stats.hitRate() * 1000.0) / 1000.0,
+                    stats.evictionCount(),
+                    invalidations.computeIfAbsent(name, k -> new AtomicLong()).get()
+            ));
+        }
+        return result;
+    }
+    
+    private int invalidate(String name, BiPredicate<Object, Object> matches) {
+        Cache<Object, Object> cache = nativeCache(name);
+        if (cache == null) {
+            return 0;
+        }
+        int removed = 0;
+        for (Map.Entry<Object, Object> entry : cache.asMap().entrySet()) {
+            if (matches.test(entry.getKey(), entry.getValue())
+                    && cache.asMap().remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        invalidations.computeIfAbsent(name, k -> new AtomicLong()).addAndGet(removed);
+        return removed;
+    }
+    
+    private static boolean isTenantKey(Object key, String tenantId) {
+        return key instanceof List<?> parts && !parts.isEmpty() && tenantId.equals(parts.get(0));
+    }
+    
+    private Cache<Object, Object> nativeCache(String name) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(name);
+        return cache instanceof CaffeineCache caffeineCache ? caffeineCache.getNativeCache() : null;
+    }
+}
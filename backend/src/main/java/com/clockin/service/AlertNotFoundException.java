@@ -0,0 +1,12 @@
+package com.clockin.service;
+
+/**
+ * Thrown when an alert id does not name an alert of the current tenant, whether it never existed
+ * or belongs to another site.
+ */
+public class AlertNotFoundException extends RuntimeException {
+    
+    public AlertNotFoundException(String message) {
+        super(message);
+    }
+}
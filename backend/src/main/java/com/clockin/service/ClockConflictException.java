@@ -0,0 +1,16 @@
+package com.clockin.service;
+
+/**
+ * Thrown when a clock-in would open a second active session for the same employee,
+ * whether caught by the in-memory check or by the database constraint.
+ */
+public class ClockConflictException extends RuntimeException {
+    
+    public ClockConflictException(String message) {
+        super(message);
+    }
+    
+    public ClockConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,73 @@
+package com.clockin.service;
+
+import com.clockin.model.TimeEntry;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by {@link TimeEntryService} whenever a clock-in or clock-out is written.
+ * Listeners that mirror database state should react after commit only.
+ */
+public class ClockEvent {
+    
+    public enum Type { CLOCK_IN, CLOCK_OUT }
+    
+    private final Type type;
+    private final String tenantId;
+    private final Long entryId;
+    private final Long employeeId;
+    private final String firstName;
+    private final String lastName;
+    private final LocalDateTime clockInTime;
+    private final LocalDateTime clockOutTime;
+    private final Double totalHours;
+    
+    public ClockEvent(Type type, TimeEntry timeEntry) {
+        this.type = type;
+        this.tenantId = timeEntry.getTenantId();
+        this.entryId = timeEntry.getId();
+        this.employeeId = timeEntry.getEmployee() != null ? timeEntry.getEmployee().getId() : null;
+        this.firstName = timeEntry.getFirstName();
+        this.lastName = timeEntry.getLastName();
+        this.clockInTime = timeEntry.getClockInTime();
+        this.clockOutTime = timeEntry.getClockOutTime();
+        this.totalHours = timeEntry.getTotalHours();
+    }
+    
+    // Getters
+    public Type getType() {
+        return type;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public Long getEntryId() {
+        return entryId;
+    }
+    
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public LocalDateTime getClockInTime() {
+        return clockInTime;
+    }
+    
+    public LocalDateTime getClockOutTime() {
+        return clockOutTime;
+    }
+    
+    public Double getTotalHours() {
+        return totalHours;
+    }
+}
@@ -0,0 +1,76 @@
+package com.clockin.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application meters. Endpoint latency (http.server.requests), repository calls
+ * (spring.data.repository.invocations) and the connection pool (hikaricp.*) are
+ * instrumented by Spring Boot itself.
+ */
+@Component
+public class ClockinMetrics implements MeterBinder {
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    // Meters by tag value, registered on first use; the builders would otherwise run on every request
+    private final Map<String, DistributionSummary> rowsScanned = new ConcurrentHashMap<>();
+    private final Map<String, Counter> alertsRaised = new ConcurrentHashMap<>();
+    
+    @Autowired
+    private ActiveSessionRegistry activeSessionRegistry;
+    
+    @Autowired
+    private PunchJournal punchJournal;
+    
+    // Lazy: the stream reads through TimeEntryService, which records into these meters
+    @Lazy
+    @Autowired
+    private AdminEventStream adminEventStream;
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("clockin.sessions.active", activeSessionRegistry, ActiveSessionRegistry::size)
+                .description("Employees currently clocked in")
+                .register(registry);
+        Gauge.builder("clockin.journal.pending", punchJournal, PunchJournal::getPendingCount)
+                .description("Journaled punches not yet written to the database")
+                .register(registry);
+        Gauge.builder("clockin.admin.stream.subscribers", adminEventStream, AdminEventStream::getSubscriberCount)
+                .description("Open admin dashboard event streams")
+                .register(registry);
+        FunctionCounter.builder("clockin.admin.stream.dropped", adminEventStream, AdminEventStream::getDroppedSubscriberCount)
+                .description("Dashboard subscribers disconnected for falling too far behind")
+                .register(registry);
+    }
+    
+    // Recorded when a report is computed; cache hits read nothing and are not counted
+    public void recordRowsScanned(String report, long rows) {
+        rowsScanned.computeIfAbsent(report, tag -> DistributionSummary.builder("clockin.admin.scanned")
+                        .description("Database rows read to build one admin report")
+                        .baseUnit("rows")
+                        .tag("report", tag)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry))
+                .record(rows);
+    }
+    
+    public void recordAlert(String type) {
+        alertsRaised.computeIfAbsent(type, tag -> Counter.builder("clockin.alerts.raised")
+                        .description("Overtime and forgotten clock-out alerts raised")
+                        .tag("type", tag)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
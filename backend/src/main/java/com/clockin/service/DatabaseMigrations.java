@@ -0,0 +1,86 @@
+package com.clockin.service;
+
+import com.clockin.model.TimeAlert;
+import com.clockin.model.TimeEntry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Brings databases created by earlier versions up to the current schema. Runs while the
+ * context is starting, before the web server accepts requests, and is safe to repeat.
+ */
+@Component
+public class DatabaseMigrations {
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private EmployeeSummaryService employeeSummaryService;
+    
+    @Autowired
+    private TimeEntryPartitioning timeEntryPartitioning;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @PostConstruct
+    public void migrate() {
+        dropPreTenantIndexes();
+        employeeService.migrateUnassignedTimeEntries();
+        employeeSummaryService.backfillIfEmpty();
+        realignSequence("time_entries", "time_entries_seq", TimeEntry.ID_ALLOCATION_SIZE);
+        realignSequence("time_alerts", "time_alerts_seq", TimeAlert.ID_ALLOCATION_SIZE);
+        createActiveSessionIndex();
+        timeEntryPartitioning.migrate();
+    }
+    
+    // Superseded by the tenant-leading versions the entities declare
+    private void dropPreTenantIndexes() {
+        jdbcTemplate.execute("ALTER TABLE employees DROP CONSTRAINT IF EXISTS uk_employees_name");
+        jdbcTemplate.execute("ALTER TABLE pay_periods DROP CONSTRAINT IF EXISTS uk_pay_periods_start_date");
+        for (String index : List.of("idx_time_entries_clock_in", "idx_employee_summaries_name", "idx_pay_period_days_work_date")) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS " + index);
+        }
+    }
+    
+    // Partitioned tables carry this index per partition instead
+    private void createActiveSessionIndex() {
+        if (!timeEntryPartitioning.isPartitioned()) {
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + TimeEntry.ACTIVE_SESSION_CONSTRAINT +
+                    " ON time_entries (active_employee_id)");
+        }
+    }
+    
+    // These ids used to come from identity columns; move each sequence past them.
+    // The pooled optimizer hands out ids up to one allocation below the sequence value.
+    // Only ever advances: a sequence already ahead of the table (ids handed out but not
+    // yet flushed, or rows deleted since) must not be wound back onto ids in use.
+    private void realignSequence(String table, String sequence, int allocationSize) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        if (maxId == null || maxId == 0) {
+            return;
+        }
+        long nextValue = maxId + allocationSize + 1;
+        if (isPostgres()) {
+            jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', GREATEST((SELECT last_value FROM " +
+                    sequence + "), ?))", Long.class, nextValue - 1);
+            return;
+        }
+        Long current = jdbcTemplate.queryForObject("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES " +
+                "WHERE SEQUENCE_NAME = ?", Long.class, sequence.toUpperCase());
+        if (current == null || current < nextValue) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + nextValue);
+        }
+    }
+    
+    private boolean isPostgres() {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+    }
+}
@@ -0,0 +1,6 @@
+package com.clockin.service;
+
+/**
+ * The natural key employees are addressed by in the API.
+ */
+public record EmployeeName(String firstName, String lastName) {}
@@ -0,0 +1,70 @@
+package com.clockin.service;
+
+import com.clockin.model.Employee;
+import com.clockin.repository.EmployeeRepository;
+import com.clockin.repository.TimeEntryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class EmployeeService {
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+    
+    public Optional<Employee> findEmployee(String firstName, String lastName) {
+        return employeeRepository.findByFirstNameAndLastName(firstName, lastName);
+    }
+    
+    // Call outside a transaction: the insert commits on its own, and losing a race to a concurrent
+    // request for the same new employee just means reading back the row it created
+    public Employee findOrCreateEmployee(String firstName, String lastName) {
+        Optional<Employee> existing = employeeRepository.findByFirstNameAndLastName(firstName, lastName);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        try {
+            return employeeRepository.saveAndFlush(new Employee(firstName, lastName));
+        } catch (DataIntegrityViolationException e) {
+            return employeeRepository.findByFirstNameAndLastName(firstName, lastName).orElseThrow(() -> e);
+        }
+    }
+    
+    // Same contract as findOrCreateEmployee, resolving every existing employee in one query
+    public Map<EmployeeName, Employee> findOrCreateEmployees(Collection<EmployeeName> names) {
+        Set<String> firstNames = names.stream().map(EmployeeName::firstName).collect(Collectors.toSet());
+        Map<EmployeeName, Employee> employees = new HashMap<>();
+        for (Employee employee : employeeRepository.findByFirstNameIn(firstNames)) {
+            EmployeeName name = new EmployeeName(employee.getFirstName(), employee.getLastName());
+            if (names.contains(name)) {
+                employees.put(name, employee);
+            }
+        }
+        for (EmployeeName name : names) {
+            if (!employees.containsKey(name)) {
+                employees.put(name, findOrCreateEmployee(name.firstName(), name.lastName()));
+            }
+        }
+        return employees;
+    }
+    
+    // Existing time_entries rows only carry names; give each distinct name an employee row and link it
+    @Transactional
+    public void migrateUnassignedTimeEntries() {
+        employeeRepository.insertMissingFromTimeEntries();
+        employeeRepository.linkUnassignedTimeEntries();
+        timeEntryRepository.claimActiveSessionSlots();
+    }
+}
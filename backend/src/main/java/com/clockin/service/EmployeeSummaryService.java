@@ -0,0 +1,233 @@
+package com.clockin.service;
+
+import com.clockin.model.Employee;
+import com.clockin.model.EmployeeSummary;
+import com.clockin.model.TimeEntry;
+import com.clockin.repository.EmployeeSummaryRepository;
+import com.clockin.repository.TimeEntryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class EmployeeSummaryService {
+    
+    @Autowired
+    private EmployeeSummaryRepository employeeSummaryRepository;
+    
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+    
+    @Autowired
+    private TimeAlertService timeAlertService;
+    
+    // Called inside the clock-in/out transaction so the rollup never drifts from time_entries
+    public void recordClockIn(TimeEntry timeEntry) {
+        Employee employee = timeEntry.getEmployee();
+        Optional<EmployeeSummary> existing = employeeSummaryRepository.findByEmployeeIdForUpdate(employee.getId());
+        if (existing.isEmpty()) {
+            employeeSummaryRepository.save(rebuildSummary(employee));
+            return;
+        }
+        EmployeeSummary summary = existing.get();
+        summary.setTotalEntries(summary.getTotalEntries() + 1);
+        summary.setActiveEntries(summary.getActiveEntries() + 1);
+        summary.setLatestEntryId(timeEntry.getId());
+        employeeSummaryRepository.save(summary);
+    }
+    
+    public void recordClockOut(TimeEntry timeEntry) {
+        Employee employee = timeEntry.getEmployee();
+        Optional<EmployeeSummary> existing = employeeSummaryRepository.findByEmployeeIdForUpdate(employee.getId());
+        EmployeeSummary summary;
+        if (existing.isPresent()) {
+            summary = existing.get();
+            double hours = timeEntry.getTotalHours() != null ? timeEntry.getTotalHours() : 0.0;
+            summary.setActiveEntries(Math.max(0, summary.getActiveEntries() - 1));
+            summary.setTotalHours(summary.getTotalHours() + hours);
+        } else {
+            summary = rebuildSummary(employee);
+        }
+        timeAlertService.recordClosedEntries(summary, List.of(timeEntry));
+        employeeSummaryRepository.save(summary);
+    }
+    
+    // An employee whose rollup row is missing gets it back from their time entries. The query flushes
+    // the pending punches first, so the totals already include them and callers must not add them again.
+    // The overtime counters start empty, which has the next clock-out recount them from time_entries.
+    private EmployeeSummary rebuildSummary(Employee employee) {
+        EmployeeSummary summary = new EmployeeSummary(employee);
+        timeEntryRepository.summarizeEmployee(employee.getId()).ifPresent(totals -> {
+            summary.setTotalEntries(totals.getTotalEntries());
+            summary.setActiveEntries(totals.getActiveEntries());
+            summary.setTotalHours(totals.getTotalHours());
+            summary.setLatestEntryId(totals.getLatestEntryId());
+        });
+        return summary;
+    }
+    
+    // Folds a whole batch of punches into the rollup with one locking read per batch
+    public void recordBatch(List<TimeEntry> createdEntries, List<TimeEntry> closedEntries) {
+        Map<Long, EmployeeSummary> summaries = new HashMap<>();
+        Set<Long> employeeIds = new HashSet<>();
+        createdEntries.forEach(entry -> employeeIds.add(entry.getEmployee().getId()));
+        closedEntries.forEach(entry -> employeeIds.add(entry.getEmployee().getId()));
+        for (EmployeeSummary summary : employeeSummaryRepository.findByEmployeeIdsForUpdate(employeeIds)) {
+            summaries.put(summary.getEmployeeId(), summary);
+        }
+        
+        // Rebuilt rows already count this batch's entries
+        Set<Long> rebuilt = new HashSet<>();
+        for (List<TimeEntry> entries : List.of(createdEntries, closedEntries)) {
+            for (TimeEntry entry : entries) {
+                if (!summaries.containsKey(entry.getEmployee().getId())) {
+                    summaries.put(entry.getEmployee().getId(), rebuildSummary(entry.getEmployee()));
+                    rebuilt.add(entry.getEmployee().getId());
+                }
+            }
+        }
+        
+        for (TimeEntry entry : createdEntries) {
+            if (rebuilt.contains(entry.getEmployee().getId())) {
+                continue;
+            }
+            EmployeeSummary summary = summaries.get(entry.getEmployee().getId());
+            summary.setTotalEntries(summary.getTotalEntries() + 1);
+            if (entry.getIsActive()) {
+                summary.setActiveEntries(summary.getActiveEntries() + 1);
+            } else if (entry.getTotalHours() != null) {
+                summary.setTotalHours(summary.getTotalHours() + entry.getTotalHours());
+            }
+            if (summary.getLatestEntryId() == null || entry.getId() > summary.getLatestEntryId()) {
+                summary.setLatestEntryId(entry.getId());
+            }
+        }
+        for (TimeEntry entry : closedEntries) {
+            if (rebuilt.contains(entry.getEmployee().getId())) {
+                continue;
+            }
+            EmployeeSummary summary = summaries.get(entry.getEmployee().getId());
+            double hours = entry.getTotalHours() != null ? entry.getTotalHours() : 0.0;
+            summary.setActiveEntries(Math.max(0, summary.getActiveEntries() - 1));
+            summary.setTotalHours(summary.getTotalHours() + hours);
+        }
+        
+        Map<Long, List<TimeEntry>> entriesClosed = new HashMap<>();
+        for (TimeEntry entry : createdEntries) {
+            if (!entry.getIsActive()) {
+                entriesClosed.computeIfAbsent(entry.getEmployee().getId(), id -> new ArrayList<>()).add(entry);
+            }
+        }
+        for (TimeEntry entry : closedEntries) {
+            entriesClosed.computeIfAbsent(entry.getEmployee().getId(), id -> new ArrayList<>()).add(entry);
+        }
+        entriesClosed.forEach((employeeId, entries) -> timeAlertService.recordClosedEntries(summaries.get(employeeId), entries));
+        
+        employeeSummaryRepository.saveAll(summaries.values());
+    }
+    
+    // Imported entries are closed and usually historical, so they only become an employee's
+    // latest entry when they were clocked in after the current one
+    public void recordImport(List<TimeEntry> importedEntries) {
+        Map<Long, EmployeeSummary> summaries = new HashMap<>();
+        Set<Long> employeeIds = new HashSet<>();
+        importedEntries.forEach(entry -> employeeIds.add(entry.getEmployee().getId()));
+        for (EmployeeSummary summary : employeeSummaryRepository.findByEmployeeIdsForUpdate(employeeIds)) {
+            summaries.put(summary.getEmployeeId(), summary);
+        }
+        Map<Long, LocalDateTime> latestClockIns = new HashMap<>();
+        List<Long> latestEntryIds = summaries.values().stream()
+                .map(EmployeeSummary::getLatestEntryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        for (TimeEntry latest : timeEntryRepository.findAllById(latestEntryIds)) {
+            latestClockIns.put(latest.getId(), latest.getClockInTime());
+        }
+        
+        Map<Long, TimeEntry> newestImported = new HashMap<>();
+        for (TimeEntry entry : importedEntries) {
+            EmployeeSummary summary = summaries.computeIfAbsent(entry.getEmployee().getId(),
+                    id -> new EmployeeSummary(entry.getEmployee()));
+            summary.setTotalEntries(summary.getTotalEntries() + 1);
+            summary.setTotalHours(summary.getTotalHours() + entry.getTotalHours());
+            // Imported history raises no alerts, but may land in a week the overtime counters track;
+            // clearing them has the next clock-out recount from time_entries
+            summary.setCounterDate(null);
+            summary.setWeekStart(null);
+            newestImported.merge(entry.getEmployee().getId(), entry,
+                    (a, b) -> b.getClockInTime().isAfter(a.getClockInTime()) ? b : a);
+        }
+        for (TimeEntry entry : newestImported.values()) {
+            EmployeeSummary summary = summaries.get(entry.getEmployee().getId());
+            LocalDateTime latestClockIn = latestClockIns.get(summary.getLatestEntryId());
+            if (latestClockIn == null || entry.getClockInTime().isAfter(latestClockIn)) {
+                summary.setLatestEntryId(entry.getId());
+            }
+        }
+        
+        employeeSummaryRepository.saveAll(summaries.values());
+    }
+    
+    // Returns up to pageSize + 1 rows so callers can tell whether another page exists
+    public List<EmployeeSummary> getSummaryPage(String afterFirstName, String afterLastName, int pageSize) {
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+        if (afterFirstName == null) {
+            return employeeSummaryRepository.findAllByOrderByFirstNameAscLastNameAsc(pageable);
+        }
+        return employeeSummaryRepository.findPageAfter(afterFirstName, afterLastName, pageable);
+    }
+    
+    public Optional<EmployeeSummary> findSummary(Long employeeId) {
+        return employeeSummaryRepository.findByEmployeeId(employeeId);
+    }
+    
+    public List<EmployeeSummary> findSummaries(Collection<Long> employeeIds) {
+        return employeeSummaryRepository.findByEmployeeIdIn(employeeIds);
+    }
+    
+    public EmployeeSummaryRepository.Totals getTotals() {
+        return employeeSummaryRepository.summarizeAll();
+    }
+    
+    // Existing databases predate the rollup table, so seed it once from time_entries.
+    // Runs after employees have been migrated so every row can be keyed by employee id,
+    // and outside any tenant, so it covers them all.
+    @Transactional
+    public void backfillIfEmpty() {
+        employeeSummaryRepository.linkUnassignedSummaries();
+        if (employeeSummaryRepository.count() == 0 && timeEntryRepository.count() > 0) {
+            rebuild();
+        }
+    }
+    
+    @Transactional
+    public void rebuild() {
+        employeeSummaryRepository.deleteAllInBatch();
+        for (TimeEntryRepository.EmployeeTotals totals : timeEntryRepository.summarizeByEmployee()) {
+            EmployeeSummary summary = new EmployeeSummary();
+            summary.setEmployeeId(totals.getEmployeeId());
+            summary.setTenantId(totals.getTenantId());
+            summary.setFirstName(totals.getFirstName());
+            summary.setLastName(totals.getLastName());
+            summary.setTotalEntries(totals.getTotalEntries());
+            summary.setActiveEntries(totals.getActiveEntries());
+            summary.setTotalHours(totals.getTotalHours());
+            summary.setLatestEntryId(totals.getLatestEntryId());
+            employeeSummaryRepository.save(summary);
+        }
+    }
+}
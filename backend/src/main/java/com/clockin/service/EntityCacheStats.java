@@ -0,0 +1,62 @@
+package com.clockin.service;
+
+import com.clockin.dto.CacheStatsResponse;
+import com.clockin.model.Employee;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hit and miss counts for Hibernate's second-level cache regions, reported next to the admin view
+ * caches. Counting needs hibernate.generate_statistics; without it every region reads zero.
+ */
+@Component
+public class EntityCacheStats {
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    public List<CacheStatsResponse> getStats() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        CacheImplementor cache = sessionFactory.getCache();
+        List<CacheStatsResponse> result = new ArrayList<>();
+        // The region names include the query regions, which domain statistics reject
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            if (!(cache.getRegion(region) instanceof DomainDataRegion)) {
+                continue;
+            }
+            CacheRegionStatistics regionStats = statistics.getDomainDataRegionStatistics(region);
+            if (regionStats != null) {
+                result.add(toResponse(region, regionStats));
+            }
+        }
+        CacheRegionStatistics lookups = statistics.getQueryRegionStatistics(Employee.LOOKUP_CACHE_REGION);
+        if (lookups != null) {
+            result.add(toResponse(Employee.LOOKUP_CACHE_REGION, lookups));
+        }
+        return result;
+    }
+    
+    private static CacheStatsResponse toResponse(String region, CacheRegionStatistics stats) {
+        long requests = stats.getHitCount() + stats.getMissCount();
+        long size = stats.getElementCountInMemory();
+        return new CacheStatsResponse(
+                region,
+                size >= 0 ? size : null,
+                stats.getHitCount(),
+                stats.getMissCount(),
+                requests > 0 ? Math.round(stats.getHitCount() * 1000.0 / requests) / 1000.0 : 1.0,
+                null,
+                null
+        );
+    }
+}
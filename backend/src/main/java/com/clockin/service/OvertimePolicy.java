@@ -0,0 +1,61 @@
+package com.clockin.service;
+
+import com.clockin.dto.DailyHours;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits worked hours into regular and overtime. Hours past the daily limit are overtime,
+ * and so are regular hours past the weekly limit, with weeks starting on the work calendar's week start.
+ */
+@Component
+public class OvertimePolicy {
+    
+    @Value("${clockin.payroll.daily-overtime-hours:8}")
+    private double dailyOvertimeHours;
+    
+    @Value("${clockin.payroll.weekly-overtime-hours:40}")
+    private double weeklyOvertimeHours;
+    
+    @Autowired
+    private WorkCalendar workCalendar;
+    
+    public double getDailyOvertimeHours() {
+        return dailyOvertimeHours;
+    }
+    
+    public double getWeeklyOvertimeHours() {
+        return weeklyOvertimeHours;
+    }
+    
+    // days belong to one employee, ascending by date; the weekly count starts over at the first day given
+    public List<DaySplit> split(List<DailyHours> days) {
+        List<DaySplit> result = new ArrayList<>(days.size());
+        long currentWeek = Long.MIN_VALUE;
+        double weekRegularHours = 0.0;
+        for (DailyHours day : days) {
+            long week = workCalendar.weekKey(day.getDate());
+            if (week != currentWeek) {
+                currentWeek = week;
+                weekRegularHours = 0.0;
+            }
+            double hours = day.getTotalHours() != null ? day.getTotalHours() : 0.0;
+            double regularHours = Math.min(hours, dailyOvertimeHours);
+            regularHours = Math.min(regularHours, Math.max(0.0, weeklyOvertimeHours - weekRegularHours));
+            weekRegularHours += regularHours;
+            result.add(new DaySplit(day.getDate(), round(regularHours), round(hours - regularHours), day.getEntryCount()));
+        }
+        return result;
+    }
+    
+    private static double round(double hours) {
+        return Math.round(hours * 100.0) / 100.0;
+    }
+    
+    public record DaySplit(LocalDate date, double regularHours, double overtimeHours, long entryCount) {}
+}
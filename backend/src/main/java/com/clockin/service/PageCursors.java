@@ -0,0 +1,62 @@
+package com.clockin.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursors. A cursor encodes the sort key of the last row returned,
+ * so the next page starts strictly after it instead of using an OFFSET.
+ */
+final class PageCursors {
+    
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+    
+    private static final String SEPARATOR = "\n";
+    
+    private PageCursors() {}
+    
+    static int clampPageSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+    
+    static String encode(String... parts) {
+        String raw = String.join(SEPARATOR, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+    
+    static String encodeEntry(LocalDateTime clockInTime, Long id) {
+        return encode(clockInTime.toString(), String.valueOf(id));
+    }
+    
+    static EntryKey decodeEntry(String cursor) {
+        String[] parts = decode(cursor, 2);
+        try {
+            return new EntryKey(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+    
+    record EntryKey(LocalDateTime clockInTime, Long id) {}
+}
@@ -0,0 +1,185 @@
+package com.clockin.service;
+
+import com.clockin.dto.DailyHours;
+import com.clockin.dto.PayPeriodResponse;
+import com.clockin.dto.PayrollEmployeeResponse;
+import com.clockin.dto.PayrollReportResponse;
+import com.clockin.model.PayPeriod;
+import com.clockin.model.PayPeriodDay;
+import com.clockin.repository.PayPeriodDayRepository;
+import com.clockin.repository.PayPeriodRepository;
+import com.clockin.repository.TimeEntryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Pay periods are closed in order, each starting the day after the previous one ended. Closing
+ * freezes every employee's daily regular/overtime split into pay_period_days, so reports over
+ * closed days read only the snapshot; days after the last closed period are computed live.
+ * Hours count toward the day the entry was clocked in.
+ */
+@Service
+public class PayrollService {
+    
+    @Autowired
+    private PayPeriodRepository payPeriodRepository;
+    
+    @Autowired
+    private PayPeriodDayRepository payPeriodDayRepository;
+    
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+    
+    @Autowired
+    private OvertimePolicy overtimePolicy;
+    
+    @Autowired
+    private WorkCalendar workCalendar;
+    
+    @Autowired
+    private ClockinMetrics clockinMetrics;
+    
+    // Last day covered by a closed pay period, if any
+    public Optional<LocalDate> getClosedThrough() {
+        return payPeriodRepository.findTopByOrderByEndDateDesc().map(PayPeriod::getEndDate);
+    }
+    
+    public List<PayPeriodResponse> getPayPeriods() {
+        return payPeriodRepository.findAllByOrderByStartDateDesc().stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+    }
+    
+    @Transactional
+    public PayPeriodResponse closePeriod(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (!to.isBefore(workCalendar.today())) {
+            throw new IllegalArgumentException("A pay period can only be closed after its last day");
+        }
+        Optional<LocalDate> closedThrough = getClosedThrough();
+        if (closedThrough.isPresent() && !from.equals(closedThrough.get().plusDays(1))) {
+            throw new IllegalArgumentException("The next pay period must start on " + closedThrough.get().plusDays(1));
+        }
+        if (timeEntryRepository.existsByIsActiveTrueAndClockInTimeLessThan(to.plusDays(1).atStartOfDay())) {
+            throw new RuntimeException("Employees are still clocked in from this pay period");
+        }
+        
+        PayPeriod period = payPeriodRepository.save(new PayPeriod(from, to, workCalendar.now()));
+        List<PayPeriodDay> days = new ArrayList<>();
+        for (EmployeeDays employee : splitLiveHours(from, to).values()) {
+            for (OvertimePolicy.DaySplit day : employee.days()) {
+                days.add(new PayPeriodDay(period.getId(), employee.employeeId(), employee.firstName(), employee.lastName(),
+                        day.date(), day.regularHours(), day.overtimeHours(), day.entryCount()));
+            }
+        }
+        payPeriodDayRepository.saveAll(days);
+        return convertToResponse(period);
+    }
+    
+    @Transactional(readOnly = true)
+    public PayrollReportResponse getPayrollReport(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        LocalDate closedThrough = getClosedThrough().orElse(null);
+        Map<Long, PayrollEmployeeResponse> employees = new HashMap<>();
+        long rowsScanned = 0;
+        
+        if (closedThrough != null && !from.isAfter(closedThrough)) {
+            LocalDate snapshotTo = to.isBefore(closedThrough) ? to : closedThrough;
+            for (PayPeriodDayRepository.EmployeePayTotals totals : payPeriodDayRepository.summarizeByEmployee(from, snapshotTo)) {
+                add(employees, totals.getEmployeeId(), totals.getFirstName(), totals.getLastName(),
+                        totals.getRegularHours(), totals.getOvertimeHours(), totals.getEntryCount());
+                rowsScanned += totals.getDayCount();
+            }
+        }
+        
+        LocalDate liveFrom = closedThrough != null && !from.isAfter(closedThrough) ? closedThrough.plusDays(1) : from;
+        if (!liveFrom.isAfter(to)) {
+            // Split from the start of the open period (or the week) so overtime matches what closing will freeze
+            LocalDate splitFrom = workCalendar.weekStartOf(liveFrom);
+            if (closedThrough != null && !splitFrom.isAfter(closedThrough)) {
+                splitFrom = closedThrough.plusDays(1);
+            }
+            for (EmployeeDays employee : splitLiveHours(splitFrom, to).values()) {
+                for (OvertimePolicy.DaySplit day : employee.days()) {
+                    rowsScanned++;
+                    if (!day.date().isBefore(liveFrom)) {
+                        add(employees, employee.employeeId(), employee.firstName(), employee.lastName(),
+                                day.regularHours(), day.overtimeHours(), day.entryCount());
+                    }
+                }
+            }
+        }
+        
+        List<PayrollEmployeeResponse> rows = new ArrayList<>(employees.values());
+        rows.sort(Comparator.comparing(PayrollEmployeeResponse::getFirstName).thenComparing(PayrollEmployeeResponse::getLastName));
+        double regularHours = 0.0;
+        double overtimeHours = 0.0;
+        for (PayrollEmployeeResponse row : rows) {
+            row.setRegularHours(round(row.getRegularHours()));
+            row.setOvertimeHours(round(row.getOvertimeHours()));
+            row.setTotalHours(round(row.getRegularHours() + row.getOvertimeHours()));
+            regularHours += row.getRegularHours();
+            overtimeHours += row.getOvertimeHours();
+        }
+        
+        PayrollReportResponse report = new PayrollReportResponse();
+        report.setFrom(from);
+        report.setTo(to);
+        report.setClosedThrough(closedThrough);
+        report.setEmployees(rows);
+        report.setRegularHours(round(regularHours));
+        report.setOvertimeHours(round(overtimeHours));
+        
+        clockinMetrics.recordRowsScanned("payroll", rowsScanned);
+        return report;
+    }
+    
+    // Daily totals from time_entries, split into regular and overtime per employee
+    private Map<Long, EmployeeDays> splitLiveHours(LocalDate from, LocalDate to) {
+        Map<Long, EmployeeDays> employees = new LinkedHashMap<>();
+        Map<Long, List<DailyHours>> hoursByEmployee = new HashMap<>();
+        // Rows arrive grouped by employee, days ascending
+        for (TimeEntryRepository.EmployeeDayTotals day : timeEntryRepository.sumHoursByEmployeeAndDay(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            employees.computeIfAbsent(day.getEmployeeId(), id -> new EmployeeDays(id, day.getFirstName(), day.getLastName(), null));
+            hoursByEmployee.computeIfAbsent(day.getEmployeeId(), id -> new ArrayList<>())
+                    .add(new DailyHours(day.getWorkDate(), day.getTotalHours(), day.getEntryCount()));
+        }
+        employees.replaceAll((id, employee) -> new EmployeeDays(id, employee.firstName(), employee.lastName(),
+                overtimePolicy.split(hoursByEmployee.get(id))));
+        return employees;
+    }
+    
+    private static void add(Map<Long, PayrollEmployeeResponse> employees, Long employeeId, String firstName, String lastName,
+                            double regularHours, double overtimeHours, long entryCount) {
+        PayrollEmployeeResponse row = employees.computeIfAbsent(employeeId, id -> new PayrollEmployeeResponse(firstName, lastName));
+        row.setRegularHours(row.getRegularHours() + regularHours);
+        row.setOvertimeHours(row.getOvertimeHours() + overtimeHours);
+        row.setEntryCount(row.getEntryCount() + entryCount);
+    }
+    
+    private static double round(double hours) {
+        return Math.round(hours * 100.0) / 100.0;
+    }
+    
+    private PayPeriodResponse convertToResponse(PayPeriod period) {
+        return new PayPeriodResponse(period.getId(), period.getStartDate(), period.getEndDate(), period.getClosedAt());
+    }
+    
+    private record EmployeeDays(Long employeeId, String firstName, String lastName, List<OvertimePolicy.DaySplit> days) {}
+}
@@ -0,0 +1,408 @@
+package com.clockin.service;
+
+import com.clockin.dto.PunchRequest;
+import com.clockin.dto.TimeEntryResponse;
+import com.clockin.model.JournalCheckpoint;
+import com.clockin.repository.JournalCheckpointRepository;
+import com.clockin.repository.TimeEntryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Write-behind mode for clock-in/out (clockin.journal.enabled). Each punch is appended to a
+ * local log and acknowledged once it is on disk; {@link PunchJournalFlusher} later writes
+ * pending punches to the database in order. Until then, a punch's effect on the employee's
+ * state lives in the pending overlay here, on top of the active session registry.
+ * Punches still pending at shutdown are replayed on the next start. Each record carries its
+ * tenant, and each tenant's progress is checkpointed separately.
+ */
+@Component
+public class PunchJournal {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PunchJournal.class);
+    
+    // Record layout: payload length, sequence, CRC32C of sequence and payload, JSON payload
+    // (the punch plus its tenantId; records written before tenants existed have none)
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int MAX_PAYLOAD_BYTES = 64 * 1024;
+    
+    private static final String SEGMENT_PREFIX = "punches-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    
+    private static final String TENANT_FIELD = "tenantId";
+    
+    @Value("${clockin.journal.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${clockin.journal.directory:./data/journal}")
+    private String directory;
+    
+    @Value("${clockin.journal.id:default}")
+    private String journalId;
+    
+    @Value("${clockin.journal.segment-bytes:16777216}")
+    private long segmentBytes;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private ActiveSessionRegistry activeSessionRegistry;
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+    
+    @Autowired
+    private JournalCheckpointRepository checkpointRepository;
+    
+    @Autowired
+    private WorkCalendar workCalendar;
+    
+    // Serializes appends so checking an employee's state and recording the punch are one step
+    private final ReentrantLock appendLock = new ReentrantLock();
+    
+    // Separate from appendLock so punches keep appending while an fsync is in flight; one fsync
+    // then covers every punch written before it started
+    private final ReentrantLock syncLock = new ReentrantLock();
+    
+    private final ConcurrentLinkedQueue<PendingPunch> pending = new ConcurrentLinkedQueue<>();
+    private final Map<TenantEmployeeName, PendingPunch> latestPending = new ConcurrentHashMap<>();
+    
+    // Segment files by the first sequence they hold; the last one is being written
+    private final NavigableMap<Long, Path> segments = new ConcurrentSkipListMap<>();
+    
+    private Path journalDirectory;
+    private FileChannel channel;
+    private long nextSequence;
+    private volatile long writtenSequence;
+    private volatile long durableSequence;
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    // The default tenant keeps the journal's own checkpoint row, which predates tenants
+    public String getCheckpointId(String tenantId) {
+        return TenantContext.DEFAULT_TENANT.equals(tenantId) ? journalId : journalId + "/" + tenantId;
+    }
+    
+    public int getPendingCount() {
+        return pending.size();
+    }
+    
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        journalDirectory = Path.of(directory);
+        Files.createDirectories(journalDirectory);
+        
+        Map<String, Long> checkpoints = new HashMap<>();
+        long lastSequence = 0;
+        for (JournalCheckpoint checkpoint : checkpointRepository.findAll()) {
+            String id = checkpoint.getJournalId();
+            if (id.equals(journalId) || id.startsWith(journalId + "/")) {
+                String tenantId = id.equals(journalId) ? TenantContext.DEFAULT_TENANT : id.substring(journalId.length() + 1);
+                checkpoints.put(tenantId, checkpoint.getLastSequence());
+                lastSequence = Math.max(lastSequence, checkpoint.getLastSequence());
+            }
+        }
+        
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            files.filter(this::isSegment).forEach(path -> segments.put(firstSequenceOf(path), path));
+        }
+        for (Path segment : segments.values()) {
+            for (PendingPunch punch : readSegment(segment)) {
+                lastSequence = Math.max(lastSequence, punch.sequence());
+                if (punch.sequence() > checkpoints.getOrDefault(punch.tenantId(), 0L)) {
+                    track(punch);
+                }
+            }
+        }
+        
+        nextSequence = lastSequence + 1;
+        writtenSequence = lastSequence;
+        durableSequence = lastSequence;
+        openSegment(nextSequence);
+        deleteAppliedSegments(appliedThrough(lastSequence));
+        
+        if (!pending.isEmpty()) {
+            logger.info("Replaying {} journaled punches not yet written to the database", pending.size());
+        }
+    }
+    
+    @PreDestroy
+    void close() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+        }
+    }
+    
+    public TimeEntryResponse clockIn(String firstName, String lastName) {
+        PendingPunch punch;
+        appendLock.lock();
+        try {
+            if (findOpenEntry(firstName, lastName).isPresent()) {
+                throw new ClockConflictException("Employee is already clocked in");
+            }
+            punch = append(TenantContext.current(), new PunchRequest(firstName, lastName, PunchRequest.CLOCK_IN, workCalendar.now()));
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(punch.sequence());
+        return new TimeEntryResponse(null, firstName, lastName, punch.punch().getTimestamp(), null, null, true);
+    }
+    
+    public TimeEntryResponse clockOut(String firstName, String lastName) {
+        TimeEntryResponse openEntry;
+        PendingPunch punch;
+        appendLock.lock();
+        try {
+            openEntry = findOpenEntry(firstName, lastName)
+                    .orElseThrow(() -> new RuntimeException("Employee is not clocked in"));
+            punch = append(TenantContext.current(), new PunchRequest(firstName, lastName, PunchRequest.CLOCK_OUT, workCalendar.now()));
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(punch.sequence());
+        
+        LocalDateTime clockOutTime = punch.punch().getTimestamp();
+        return new TimeEntryResponse(openEntry.getId(), firstName, lastName, openEntry.getClockInTime(), clockOutTime,
+                TimeEntryService.hoursBetween(openEntry.getClockInTime(), clockOutTime), false);
+    }
+    
+    // The employee's open entry once pending punches are written; entries still pending have no id
+    public Optional<TimeEntryResponse> findOpenEntry(String firstName, String lastName) {
+        PendingPunch latest = latestPending.get(TenantEmployeeName.inCurrentTenant(firstName, lastName));
+        if (latest != null) {
+            if (PunchRequest.CLOCK_OUT.equals(latest.punch().getType())) {
+                return Optional.empty();
+            }
+            return Optional.of(new TimeEntryResponse(null, firstName, lastName,
+                    latest.punch().getTimestamp(), null, null, true));
+        }
+        if (activeSessionRegistry.isLoaded()) {
+            return activeSessionRegistry.find(firstName, lastName)
+                    .map(session -> new TimeEntryResponse(session.entryId(), firstName, lastName,
+                            session.clockInTime(), null, null, true));
+        }
+        return employeeService.findEmployee(firstName, lastName)
+                .flatMap(employee -> timeEntryRepository.findActiveEntryId(employee.getId()))
+                .flatMap(timeEntryRepository::findById)
+                .map(entry -> new TimeEntryResponse(entry.getId(), firstName, lastName,
+                        entry.getClockInTime(), null, null, true));
+    }
+    
+    // Oldest pending punches first, in the order they were acknowledged
+    public List<PendingPunch> peekPending(int limit) {
+        List<PendingPunch> batch = new ArrayList<>(Math.min(limit, pending.size()));
+        Iterator<PendingPunch> it = pending.iterator();
+        while (it.hasNext() && batch.size() < limit) {
+            batch.add(it.next());
+        }
+        return batch;
+    }
+    
+    // Called by the flusher once the punches and their tenant's checkpoint have committed
+    public void markApplied(List<PendingPunch> punches) {
+        for (PendingPunch punch : punches) {
+            pending.remove(punch);
+            latestPending.remove(punch.employeeName(), punch);
+        }
+        if (!punches.isEmpty()) {
+            deleteAppliedSegments(appliedThrough(punches.get(punches.size() - 1).sequence()));
+        }
+    }
+    
+    // Tenants are flushed separately, so everything before the oldest pending punch has been applied
+    private long appliedThrough(long latestApplied) {
+        PendingPunch oldest = pending.peek();
+        return oldest != null ? oldest.sequence() - 1 : latestApplied;
+    }
+    
+    private PendingPunch append(String tenantId, PunchRequest punchRequest) {
+        try {
+            ObjectNode record = objectMapper.valueToTree(punchRequest);
+            record.put(TENANT_FIELD, tenantId);
+            byte[] payload = objectMapper.writeValueAsBytes(record);
+            long sequence = nextSequence;
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+            buffer.putInt(payload.length).putLong(sequence).putInt(checksum(sequence, payload)).put(payload).flip();
+            
+            if (channel.position() > 0 && channel.position() + buffer.remaining() > segmentBytes) {
+                rollSegment(sequence);
+            }
+            long start = channel.position();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                // Never leave a partial record in front of the next one
+                channel.truncate(start);
+                throw e;
+            }
+            
+            nextSequence++;
+            writtenSequence = sequence;
+            PendingPunch punch = new PendingPunch(sequence, tenantId, punchRequest);
+            track(punch);
+            return punch;
+        } catch (IOException e) {
+            throw new RuntimeException("Could not record punch", e);
+        }
+    }
+    
+    private void awaitDurable(long sequence) {
+        if (durableSequence >= sequence) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (durableSequence < sequence) {
+                long upTo = writtenSequence;
+                channel.force(false);
+                durableSequence = upTo;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not record punch", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+    
+    private void track(PendingPunch punch) {
+        pending.add(punch);
+        latestPending.put(punch.employeeName(), punch);
+    }
+    
+    // Caller holds appendLock
+    private void rollSegment(long firstSequence) throws IOException {
+        syncLock.lock();
+        try {
+            channel.force(false);
+            durableSequence = writtenSequence;
+            channel.close();
+            openSegment(firstSequence);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+    
+    private void openSegment(long firstSequence) throws IOException {
+        Path path = journalDirectory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        // A file with this name can only hold a torn record that was never acknowledged
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        segments.put(firstSequence, path);
+        syncDirectory();
+    }
+    
+    private void deleteAppliedSegments(long appliedSequence) {
+        for (Map.Entry<Long, Path> segment : segments.entrySet()) {
+            Long next = segments.higherKey(segment.getKey());
+            if (next == null || next - 1 > appliedSequence) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(segment.getValue());
+                segments.remove(segment.getKey());
+            } catch (IOException e) {
+                logger.warn("Could not delete applied journal segment {}", segment.getValue(), e);
+                break;
+            }
+        }
+    }
+    
+    private List<PendingPunch> readSegment(Path segment) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+        List<PendingPunch> punches = new ArrayList<>();
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int offset = buffer.position();
+            int length = buffer.getInt();
+            long sequence = buffer.getLong();
+            int checksum = buffer.getInt();
+            if (length < 0 || length > MAX_PAYLOAD_BYTES || buffer.remaining() < length) {
+                logger.warn("Ignoring torn record at offset {} of {}", offset, segment);
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            if (checksum != checksum(sequence, payload)) {
+                logger.warn("Ignoring corrupt record at offset {} of {}", offset, segment);
+                break;
+            }
+            ObjectNode record = (ObjectNode) objectMapper.readTree(payload);
+            String tenantId = record.path(TENANT_FIELD).asText(TenantContext.DEFAULT_TENANT);
+            record.remove(TENANT_FIELD);
+            punches.add(new PendingPunch(sequence, tenantId, objectMapper.treeToValue(record, PunchRequest.class)));
+        }
+        return punches;
+    }
+    
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(journalDirectory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Not every platform can fsync a directory; the file contents are still synced
+            logger.debug("Could not sync journal directory", e);
+        }
+    }
+    
+    private boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+    
+    private long firstSequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+    
+    private static int checksum(long sequence, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(sequence).flip());
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+    
+    public record PendingPunch(long sequence, String tenantId, PunchRequest punch) {
+        
+        TenantEmployeeName employeeName() {
+            return new TenantEmployeeName(tenantId, punch.getFirstName(), punch.getLastName());
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.clockin.service;
+
+import com.clockin.dto.PunchRequest;
+import com.clockin.dto.PunchResult;
+import com.clockin.model.JournalCheckpoint;
+import com.clockin.model.RejectedPunch;
+import com.clockin.repository.JournalCheckpointRepository;
+import com.clockin.repository.RejectedPunchRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the {@link PunchJournal} into time_entries through the batch punch path. Each batch is
+ * split by tenant, and each tenant's punches commit together with that tenant's checkpoint; if the
+ * database is unavailable the punches stay pending and the next run retries them in the same order.
+ * Punches the database rejects were already acknowledged, so they are kept in rejected_punches,
+ * committed with the same checkpoint, instead of being dropped. A batch that keeps failing is retried
+ * one punch at a time, and a punch that still fails while rejected_punches can be written is moved
+ * there, so one bad punch cannot stop the journal draining.
+ */
+@Component
+public class PunchJournalFlusher {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PunchJournalFlusher.class);
+    
+    @Value("${clockin.journal.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${clockin.journal.max-batch-attempts:10}")
+    private int maxBatchAttempts;
+    
+    @Autowired
+    private PunchJournal punchJournal;
+    
+    @Autowired
+    private TimeEntryService timeEntryService;
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private JournalCheckpointRepository checkpointRepository;
+    
+    @Autowired
+    private RejectedPunchRepository rejectedPunchRepository;
+    
+    @Autowired
+    private WorkCalendar workCalendar;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    // Two runs would read the same pending punches and apply them twice
+    private final ReentrantLock flushLock = new ReentrantLock();
+    
+    // Consecutive failures of the batch starting at a checkpoint id's oldest pending punch
+    private final Map<String, Integer> failedAttempts = new HashMap<>();
+    
+    private volatile boolean failing = false;
+    
+    @Scheduled(fixedDelayString = "${clockin.journal.flush-interval-ms:200}")
+    public void flush() {
+        if (!punchJournal.isEnabled()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            List<PunchJournal.PendingPunch> batch = punchJournal.peekPending(batchSize);
+            while (!batch.isEmpty() && flushBatch(batch)) {
+                batch = punchJournal.peekPending(batchSize);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    // Last chance to write pending punches, after any scheduled run in progress; anything left is
+    // replayed on the next start
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+    
+    // Tenants never share employees, so each tenant's punches only need to stay in order among themselves
+    private boolean flushBatch(List<PunchJournal.PendingPunch> batch) {
+        Map<String, List<PunchJournal.PendingPunch>> byTenant = batch.stream()
+                .collect(Collectors.groupingBy(PunchJournal.PendingPunch::tenantId, LinkedHashMap::new, Collectors.toList()));
+        boolean flushed = true;
+        for (Map.Entry<String, List<PunchJournal.PendingPunch>> tenantPunches : byTenant.entrySet()) {
+            flushed &= TenantContext.callAs(tenantPunches.getKey(), () -> flushTenantBatch(tenantPunches.getValue()));
+        }
+        return flushed;
+    }
+    
+    private boolean flushTenantBatch(List<PunchJournal.PendingPunch> batch) {
+        String checkpointId = punchJournal.getCheckpointId(batch.get(0).tenantId());
+        String attemptKey = checkpointId + "@" + batch.get(0).sequence();
+        
+        List<PunchResult> results;
+        try {
+            results = applyWithCheckpoint(batch, checkpointId);
+        } catch (RuntimeException e) {
+            if (!failing) {
+                logger.warn("Could not write {} journaled punches, will retry: {}", batch.size(), e.getMessage());
+                failing = true;
+            }
+            int attempts = failedAttempts.merge(attemptKey, 1, Integer::sum);
+            if (attempts < maxBatchAttempts) {
+                return false;
+            }
+            failedAttempts.remove(attemptKey);
+            return flushOneByOne(batch, checkpointId);
+        }
+        failedAttempts.remove(attemptKey);
+        if (failing) {
+            logger.info("Journaled punches are being written again");
+            failing = false;
+        }
+        
+        logRejected(batch, results);
+        punchJournal.markApplied(batch);
+        return true;
+    }
+    
+    // Finds the punch that keeps the batch from committing. A punch that fails on its own is moved to
+    // rejected_punches; if that cannot be written either, the database is down and the batch stays pending.
+    private boolean flushOneByOne(List<PunchJournal.PendingPunch> batch, String checkpointId) {
+        for (PunchJournal.PendingPunch punch : batch) {
+            List<PunchJournal.PendingPunch> single = List.of(punch);
+            try {
+                logRejected(single, applyWithCheckpoint(single, checkpointId));
+            } catch (RuntimeException e) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        rejectedPunchRepository.save(rejectedPunch(punch, failureReason(e)));
+                        checkpointRepository.save(new JournalCheckpoint(checkpointId, punch.sequence()));
+                    });
+                } catch (RuntimeException deadLetterFailure) {
+                    return false;
+                }
+                logger.error("Journaled punch {} ({} {} {} at {}) failed {} times and was moved to rejected_punches",
+                        punch.sequence(), punch.punch().getType(), punch.punch().getFirstName(),
+                        punch.punch().getLastName(), punch.tenantId(), maxBatchAttempts, e);
+            }
+            punchJournal.markApplied(single);
+        }
+        return true;
+    }
+    
+    private List<PunchResult> applyWithCheckpoint(List<PunchJournal.PendingPunch> batch, String checkpointId) {
+        List<PunchRequest> punches = batch.stream().map(PunchJournal.PendingPunch::punch).collect(Collectors.toList());
+        long lastSequence = batch.get(batch.size() - 1).sequence();
+        
+        // New employees are created up front, outside the transaction, as applyPunches expects
+        Set<EmployeeName> names = new LinkedHashSet<>();
+        for (PunchRequest punch : punches) {
+            names.add(new EmployeeName(punch.getFirstName(), punch.getLastName()));
+        }
+        employeeService.findOrCreateEmployees(names);
+        
+        return transactionTemplate.execute(status -> {
+            List<PunchResult> applied = timeEntryService.applyPunches(punches);
+            keepRejected(batch, applied);
+            checkpointRepository.save(new JournalCheckpoint(checkpointId, lastSequence));
+            return applied;
+        });
+    }
+    
+    private void logRejected(List<PunchJournal.PendingPunch> batch, List<PunchResult> results) {
+        for (PunchResult result : results) {
+            if (PunchResult.REJECTED.equals(result.getStatus())) {
+                PunchJournal.PendingPunch punch = batch.get(result.getIndex());
+                logger.warn("Journaled punch {} ({} {} {} at {}) moved to rejected_punches: {}", punch.sequence(),
+                        punch.punch().getType(), punch.punch().getFirstName(), punch.punch().getLastName(),
+                        punch.tenantId(), result.getError());
+            }
+        }
+    }
+    
+    // Punches were checked when they were journaled, so a rejection means the database changed behind
+    // the journal's back, e.g. a pay period closed over a punch that was still pending
+    private void keepRejected(List<PunchJournal.PendingPunch> batch, List<PunchResult> results) {
+        List<RejectedPunch> rejected = new ArrayList<>();
+        for (PunchResult result : results) {
+            if (PunchResult.REJECTED.equals(result.getStatus())) {
+                rejected.add(rejectedPunch(batch.get(result.getIndex()), result.getError()));
+            }
+        }
+        rejectedPunchRepository.saveAll(rejected);
+    }
+    
+    // The error column holds 255 characters
+    private static String failureReason(RuntimeException e) {
+        String reason = "Could not be applied: " + e.getMessage();
+        return reason.length() > 255 ? reason.substring(0, 255) : reason;
+    }
+    
+    private RejectedPunch rejectedPunch(PunchJournal.PendingPunch punch, String error) {
+        return new RejectedPunch(punch.sequence(), punch.punch().getType(), punch.punch().getFirstName(),
+                punch.punch().getLastName(), punch.punch().getTimestamp(), error, workCalendar.now());
+    }
+}
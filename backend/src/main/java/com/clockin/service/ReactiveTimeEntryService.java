@@ -0,0 +1,420 @@
+package com.clockin.service;
+
+import com.clockin.dto.AdminSummaryResponse;
+import com.clockin.dto.CursorPage;
+import com.clockin.dto.EmployeeOverviewResponse;
+import com.clockin.dto.TimeEntryResponse;
+import com.clockin.model.Employee;
+import com.clockin.model.TimeEntry;
+import io.r2dbc.spi.Readable;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The clock-in/out, status, history and admin overview paths of {@link TimeEntryService}, written
+ * against R2DBC so no request thread waits on the database. Used by the reactive controllers when
+ * the app runs as a reactive web application. Tenants are passed in rather than read from
+ * {@link TenantContext}, and every statement filters on them itself.
+ *
+ * Scheduled jobs and the alert engine stay on JPA; clock-outs hand their alert bookkeeping to
+ * {@link TimeAlertService} on the bounded elastic pool once they have committed.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTimeEntryService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveTimeEntryService.class);
+    
+    private static final String ENTRY_COLUMNS =
+            "id, first_name, last_name, clock_in_time, clock_out_time, total_hours, is_active";
+    
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final String nextEntryIdSql;
+    
+    @Autowired
+    private WorkCalendar workCalendar;
+    
+    @Autowired
+    private TimeEntryArchive timeEntryArchive;
+    
+    @Autowired
+    private TimeAlertService timeAlertService;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    public ReactiveTimeEntryService(DatabaseClient databaseClient, TransactionalOperator transactionalOperator) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        // Each value reserves a block of TimeEntry.ID_ALLOCATION_SIZE ids for Hibernate's pooled
+        // optimizer, so taking the value itself as an id never collides with JPA inserts
+        this.nextEntryIdSql = databaseClient.getConnectionFactory().getMetadata().getName().toLowerCase().contains("postgres")
+                ? "SELECT nextval('time_entries_seq')"
+                : "SELECT NEXT VALUE FOR time_entries_seq";
+    }
+    
+    public Mono<TimeEntryResponse> clockIn(String tenantId, String firstName, String lastName) {
+        return findOrCreateEmployeeId(tenantId, firstName, lastName)
+                .flatMap(employeeId -> lockEmployee(employeeId)
+                        .then(findActiveEntries(employeeId).hasElements())
+                        .flatMap(active -> active
+                                ? Mono.<TimeEntryResponse>error(new ClockConflictException("Employee is already clocked in"))
+                                : insertEntry(tenantId, employeeId, firstName, lastName))
+                        .as(transactionalOperator::transactional))
+                .onErrorMap(DataIntegrityViolationException.class, e -> isActiveSessionConflict(e)
+                        ? new ClockConflictException("Employee is already clocked in", e)
+                        : e);
+    }
+    
+    // Runs inside clockIn's transaction, after the employee's row lock; the active-session constraint backs it up
+    private Mono<TimeEntryResponse> insertEntry(String tenantId, Long employeeId, String firstName, String lastName) {
+        LocalDateTime clockInTime = workCalendar.now();
+        return databaseClient.sql(nextEntryIdSql)
+                .map(row -> ((Number) row.get(0)).longValue())
+                .one()
+                .flatMap(entryId -> databaseClient.sql("INSERT INTO time_entries (id, tenant_id, employee_id, first_name, " +
+                                "last_name, clock_in_time, is_active, active_employee_id) " +
+                                "VALUES (:id, :tenantId, :employeeId, :firstName, :lastName, :clockInTime, true, :employeeId)")
+                        .bind("id", entryId)
+                        .bind("tenantId", tenantId)
+                        .bind("employeeId", employeeId)
+                        .bind("firstName", firstName)
+                        .bind("lastName", lastName)
+                        .bind("clockInTime", clockInTime)
+                        .fetch().rowsUpdated()
+                        .then(recordClockIn(employeeId, entryId))
+                        .thenReturn(new TimeEntryResponse(entryId, firstName, lastName, clockInTime, null, null, true)));
+    }
+    
+    // Same rollup change as EmployeeSummaryService.recordClockIn, creating the row on first clock-in
+    private Mono<Void> recordClockIn(Long employeeId, Long entryId) {
+        return databaseClient.sql("UPDATE employee_summaries SET total_entries = total_entries + 1, " +
+                        "active_entries = active_entries + 1, latest_entry_id = :entryId WHERE employee_id = :employeeId")
+                .bind("entryId", entryId)
+                .bind("employeeId", employeeId)
+                .fetch().rowsUpdated()
+                .flatMap(updated -> updated > 0 ? Mono.<Void>empty() : rebuildSummary(employeeId));
+    }
+    
+    // A missing rollup row is rebuilt from the employee's time entries, including the punch just
+    // written in this transaction, as EmployeeSummaryService does
+    private Mono<Void> rebuildSummary(Long employeeId) {
+        return databaseClient.sql("INSERT INTO employee_summaries (tenant_id, employee_id, first_name, last_name, " +
+                        "total_hours, total_entries, active_entries, latest_entry_id) " +
+                        "SELECT e.tenant_id, e.id, e.first_name, e.last_name, COALESCE(SUM(t.total_hours), 0.0), " +
+                        "COUNT(t.id), COALESCE(SUM(CASE WHEN t.is_active = true THEN 1 ELSE 0 END), 0), MAX(t.id) " +
+                        "FROM employees e LEFT JOIN time_entries t ON t.employee_id = e.id WHERE e.id = :employeeId " +
+                        "GROUP BY e.tenant_id, e.id, e.first_name, e.last_name")
+                .bind("employeeId", employeeId)
+                .fetch().rowsUpdated()
+                .then();
+    }
+    
+    public Mono<TimeEntryResponse> clockOut(String tenantId, String firstName, String lastName) {
+        Mono<TimeEntryResponse> clockOut = findEmployeeId(tenantId, firstName, lastName)
+                .flatMap(employeeId -> lockActiveEntries(employeeId)
+                        .collectList()
+                        .flatMap(entries -> entries.isEmpty()
+                                ? Mono.<TimeEntryResponse>empty()
+                                : closeEntry(employeeId, entries.stream()
+                                        .max(Comparator.comparing(TimeEntryResponse::getId)).get())))
+                .switchIfEmpty(Mono.error(new RuntimeException("Employee is not clocked in")))
+                .as(transactionalOperator::transactional);
+        return clockOut.doOnSuccess(entry -> {
+            // Hibernate may hold the entry from while it was open, e.g. from the forgotten clock-out sweep
+            entityManagerFactory.getCache().evict(TimeEntry.class, entry.getId());
+            recordAlerts(tenantId, entry.getId());
+        });
+    }
+    
+    private Mono<TimeEntryResponse> closeEntry(Long employeeId, TimeEntryResponse entry) {
+        LocalDateTime clockOutTime = workCalendar.now();
+        double hours = TimeEntryService.hoursBetween(entry.getClockInTime(), clockOutTime);
+        return databaseClient.sql("UPDATE time_entries SET clock_out_time = :clockOutTime, is_active = false, " +
+                        "active_employee_id = NULL, total_hours = :totalHours WHERE id = :id")
+                .bind("clockOutTime", clockOutTime)
+                .bind("totalHours", hours)
+                .bind("id", entry.getId())
+                .fetch().rowsUpdated()
+                .then(databaseClient.sql("UPDATE employee_summaries SET total_hours = total_hours + :hours, " +
+                                "active_entries = CASE WHEN active_entries > 0 THEN active_entries - 1 ELSE 0 END " +
+                                "WHERE employee_id = :employeeId")
+                        .bind("hours", hours)
+                        .bind("employeeId", employeeId)
+                        .fetch().rowsUpdated())
+                .flatMap(updated -> updated > 0 ? Mono.<Void>empty() : rebuildSummary(employeeId))
+                .thenReturn(new TimeEntryResponse(entry.getId(), entry.getFirstName(), entry.getLastName(),
+                        entry.getClockInTime(), clockOutTime, hours, false));
+    }
+    
+    // Fire and forget: the clock-out has committed, and the alert engine's JPA transaction blocks
+    private void recordAlerts(String tenantId, Long entryId) {
+        Mono.fromRunnable(() -> TenantContext.runAs(tenantId, () -> timeAlertService.recordClosedEntry(entryId)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> logger.warn("Could not check alerts for entry {}", entryId, e));
+    }
+    
+    public Mono<TimeEntryResponse> getCurrentStatus(String tenantId, String firstName, String lastName) {
+        return findEmployeeId(tenantId, firstName, lastName)
+                .flatMap(employeeId -> findActiveEntries(employeeId)
+                        .reduce((a, b) -> a.getId() > b.getId() ? a : b));
+    }
+    
+    public Mono<CursorPage<TimeEntryResponse>> getEmployeeHistoryPage(String tenantId, String firstName, String lastName,
+                                                                      String cursor, Integer limit) {
+        int pageSize;
+        PageCursors.EntryKey after;
+        try {
+            pageSize = PageCursors.clampPageSize(limit);
+            after = cursor == null || cursor.isBlank() ? null : PageCursors.decodeEntry(cursor);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        
+        return findEmployeeId(tenantId, firstName, lastName)
+                .flatMap(employeeId -> findHistoryPage(employeeId, after, pageSize + 1)
+                        .collectList()
+                        .flatMap(page -> mergeArchived(employeeId, after, pageSize, page)))
+                .map(page -> {
+                    String nextCursor = null;
+                    if (page.size() > pageSize) {
+                        page = page.subList(0, pageSize);
+                        TimeEntryResponse last = page.get(pageSize - 1);
+                        nextCursor = PageCursors.encodeEntry(last.getClockInTime(), last.getId());
+                    }
+                    return new CursorPage<>(page, nextCursor);
+                })
+                .defaultIfEmpty(new CursorPage<>(List.of(), null));
+    }
+    
+    private Flux<TimeEntryResponse> findHistoryPage(Long employeeId, PageCursors.EntryKey after, int limit) {
+        if (after == null) {
+            return databaseClient.sql("SELECT " + ENTRY_COLUMNS + " FROM time_entries WHERE employee_id = :employeeId " +
+                            "ORDER BY clock_in_time DESC, id DESC LIMIT :limit")
+                    .bind("employeeId", employeeId)
+                    .bind("limit", limit)
+                    .map(ReactiveTimeEntryService::toResponse)
+                    .all();
+        }
+        return databaseClient.sql("SELECT " + ENTRY_COLUMNS + " FROM time_entries WHERE employee_id = :employeeId " +
+                        "AND (clock_in_time < :clockInTime OR (clock_in_time = :clockInTime AND id < :id)) " +
+                        "ORDER BY clock_in_time DESC, id DESC LIMIT :limit")
+                .bind("employeeId", employeeId)
+                .bind("clockInTime", after.clockInTime())
+                .bind("id", after.id())
+                .bind("limit", limit)
+                .map(ReactiveTimeEntryService::toResponse)
+                .all();
+    }
+    
+    // As in TimeEntryService.getEmployeeHistoryPage; archive files are read off the event loop
+    private Mono<List<TimeEntryResponse>> mergeArchived(Long employeeId, PageCursors.EntryKey after, int pageSize,
+                                                        List<TimeEntryResponse> page) {
+        Optional<LocalDateTime> archivedBefore = timeEntryArchive.getArchivedBefore();
+        if (archivedBefore.isEmpty() || !timeEntryArchive.hasEntries(employeeId) || (page.size() > pageSize
+                && !page.get(page.size() - 1).getClockInTime().isBefore(archivedBefore.get()))) {
+            return Mono.just(page);
+        }
+        return Mono.fromCallable(() -> {
+                    Map<Long, TimeEntryResponse> merged = new HashMap<>();
+                    for (TimeEntryResponse entry : timeEntryArchive.findPage(employeeId, after, pageSize + 1)) {
+                        merged.put(entry.getId(), entry);
+                    }
+                    for (TimeEntryResponse entry : page) {
+                        merged.put(entry.getId(), entry);
+                    }
+                    List<TimeEntryResponse> result = new ArrayList<>(merged.values());
+                    result.sort(TimeEntryArchive.NEWEST_FIRST);
+                    return result;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+    
+    // The whole database history, newest first, read from the cursor only as fast as the client takes it
+    public Flux<TimeEntryResponse> streamEmployeeHistory(String tenantId, String firstName, String lastName) {
+        return findEmployeeId(tenantId, firstName, lastName)
+                .flatMapMany(employeeId -> databaseClient.sql("SELECT " + ENTRY_COLUMNS + " FROM time_entries " +
+                                "WHERE employee_id = :employeeId ORDER BY clock_in_time DESC, id DESC")
+                        .bind("employeeId", employeeId)
+                        .map(ReactiveTimeEntryService::toResponse)
+                        .all());
+    }
+    
+    public Mono<AdminSummaryResponse> getAdminSummary(String tenantId) {
+        return databaseClient.sql("SELECT COUNT(*) AS total_employees, " +
+                        "CAST(COALESCE(SUM(active_entries), 0) AS BIGINT) AS currently_active, " +
+                        "CAST(COALESCE(SUM(total_hours), 0.0) AS DOUBLE PRECISION) AS total_hours, " +
+                        "CAST(COALESCE(SUM(total_entries), 0) AS BIGINT) AS total_entries " +
+                        "FROM employee_summaries WHERE tenant_id = :tenantId")
+                .bind("tenantId", tenantId)
+                .map(row -> new AdminSummaryResponse(
+                        ((Number) row.get("total_employees")).longValue(),
+                        ((Number) row.get("currently_active")).longValue(),
+                        Math.round(((Number) row.get("total_hours")).doubleValue() * 100.0) / 100.0,
+                        ((Number) row.get("total_entries")).longValue()))
+                .one();
+    }
+    
+    // Keyset pages by name over the rollup, as TimeEntryService.getAllEmployeesData without nested entries
+    public Mono<CursorPage<EmployeeOverviewResponse>> getAllEmployeesData(String tenantId, String cursor, Integer limit) {
+        int pageSize;
+        String[] after;
+        try {
+            pageSize = PageCursors.clampPageSize(limit);
+            after = cursor == null || cursor.isBlank() ? null : PageCursors.decode(cursor, 2);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        
+        String columns = "SELECT first_name, last_name, total_hours, total_entries, active_entries, latest_entry_id " +
+                "FROM employee_summaries WHERE tenant_id = :tenantId ";
+        DatabaseClient.GenericExecuteSpec query = after == null
+                ? databaseClient.sql(columns + "ORDER BY first_name, last_name LIMIT :limit")
+                : databaseClient.sql(columns + "AND (first_name > :firstName OR (first_name = :firstName AND last_name > :lastName)) " +
+                                "ORDER BY first_name, last_name LIMIT :limit")
+                        .bind("firstName", after[0])
+                        .bind("lastName", after[1]);
+        
+        return query.bind("tenantId", tenantId)
+                .bind("limit", pageSize + 1)
+                .map(row -> {
+                    EmployeeOverviewResponse employeeData = new EmployeeOverviewResponse();
+                    String firstName = row.get("first_name", String.class);
+                    String lastName = row.get("last_name", String.class);
+                    long activeEntries = ((Number) row.get("active_entries")).longValue();
+                    employeeData.setEmployeeName(firstName + " " + lastName);
+                    employeeData.setFirstName(firstName);
+                    employeeData.setLastName(lastName);
+                    employeeData.setTotalHours(Math.round(((Number) row.get("total_hours")).doubleValue() * 100.0) / 100.0);
+                    employeeData.setTotalEntries(((Number) row.get("total_entries")).longValue());
+                    employeeData.setActiveEntries(activeEntries);
+                    employeeData.setIsCurrentlyActive(activeEntries > 0);
+                    Number latestEntryId = (Number) row.get("latest_entry_id");
+                    return Map.entry(employeeData, latestEntryId != null ? latestEntryId.longValue() : -1L);
+                })
+                .all()
+                .collectList()
+                .flatMap(rows -> {
+                    if (rows.size() <= pageSize) {
+                        return attachLatestEntries(rows).map(items -> new CursorPage<>(items, null));
+                    }
+                    List<Map.Entry<EmployeeOverviewResponse, Long>> page = rows.subList(0, pageSize);
+                    EmployeeOverviewResponse last = page.get(pageSize - 1).getKey();
+                    String nextCursor = PageCursors.encode(last.getFirstName(), last.getLastName());
+                    return attachLatestEntries(page).map(items -> new CursorPage<>(items, nextCursor));
+                });
+    }
+    
+    // Resolves every row's latest entry with a single lookup by id
+    private Mono<List<EmployeeOverviewResponse>> attachLatestEntries(List<Map.Entry<EmployeeOverviewResponse, Long>> rows) {
+        List<Long> latestEntryIds = rows.stream()
+                .map(Map.Entry::getValue)
+                .filter(id -> id >= 0)
+                .collect(Collectors.toList());
+        Mono<Map<Long, TimeEntryResponse>> latestEntries = latestEntryIds.isEmpty()
+                ? Mono.just(Map.of())
+                : databaseClient.sql("SELECT " + ENTRY_COLUMNS + " FROM time_entries WHERE id IN (:ids)")
+                        .bind("ids", latestEntryIds)
+                        .map(ReactiveTimeEntryService::toResponse)
+                        .all()
+                        .collectMap(TimeEntryResponse::getId);
+        return latestEntries.map(entries -> rows.stream()
+                .map(row -> {
+                    row.getKey().setLatestEntry(entries.get(row.getValue()));
+                    return row.getKey();
+                })
+                .collect(Collectors.toList()));
+    }
+    
+    private Mono<Long> findEmployeeId(String tenantId, String firstName, String lastName) {
+        return databaseClient.sql("SELECT id FROM employees WHERE tenant_id = :tenantId " +
+                        "AND first_name = :firstName AND last_name = :lastName")
+                .bind("tenantId", tenantId)
+                .bind("firstName", firstName)
+                .bind("lastName", lastName)
+                .map(row -> ((Number) row.get("id")).longValue())
+                .one();
+    }
+    
+    // Commits on its own; losing a race for the same new employee just means reading back their row
+    private Mono<Long> findOrCreateEmployeeId(String tenantId, String firstName, String lastName) {
+        Mono<Long> create = databaseClient.sql("INSERT INTO employees (tenant_id, first_name, last_name) " +
+                        "VALUES (:tenantId, :firstName, :lastName)")
+                .bind("tenantId", tenantId)
+                .bind("firstName", firstName)
+                .bind("lastName", lastName)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> ((Number) row.get("id")).longValue())
+                .one()
+                // Hibernate may have cached this name as not found
+                .doOnSuccess(employeeId -> entityManagerFactory.getCache().unwrap(Cache.class)
+                        .evictQueryRegion(Employee.LOOKUP_CACHE_REGION))
+                .onErrorResume(DataIntegrityViolationException.class, e -> findEmployeeId(tenantId, firstName, lastName));
+        return findEmployeeId(tenantId, firstName, lastName).switchIfEmpty(create);
+    }
+    
+    private Flux<TimeEntryResponse> findActiveEntries(Long employeeId) {
+        return databaseClient.sql("SELECT " + ENTRY_COLUMNS + " FROM time_entries " +
+                        "WHERE employee_id = :employeeId AND is_active = true")
+                .bind("employeeId", employeeId)
+                .map(ReactiveTimeEntryService::toResponse)
+                .all();
+    }
+    
+    // Serializes clock-ins for one employee, as TimeEntryService does
+    private Mono<Void> lockEmployee(Long employeeId) {
+        return databaseClient.sql("SELECT id FROM employees WHERE id = :employeeId FOR UPDATE")
+                .bind("employeeId", employeeId)
+                .fetch().all()
+                .then();
+    }
+    
+    // Row locks on the open entries so concurrent clock-outs cannot both close one
+    private Flux<TimeEntryResponse> lockActiveEntries(Long employeeId) {
+        return databaseClient.sql("SELECT " + ENTRY_COLUMNS + " FROM time_entries " +
+                        "WHERE employee_id = :employeeId AND is_active = true FOR UPDATE")
+                .bind("employeeId", employeeId)
+                .map(ReactiveTimeEntryService::toResponse)
+                .all();
+    }
+    
+    private static boolean isActiveSessionConflict(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(TimeEntry.ACTIVE_SESSION_CONSTRAINT);
+    }
+    
+    private static TimeEntryResponse toResponse(Readable row) {
+        Number totalHours = (Number) row.get("total_hours");
+        return new TimeEntryResponse(
+                ((Number) row.get("id")).longValue(),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("clock_in_time", LocalDateTime.class),
+                row.get("clock_out_time", LocalDateTime.class),
+                totalHours != null ? totalHours.doubleValue() : null,
+                Objects.equals(row.get("is_active", Boolean.class), Boolean.TRUE)
+        );
+    }
+}
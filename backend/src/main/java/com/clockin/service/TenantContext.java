@@ -0,0 +1,63 @@
+package com.clockin.service;
+
+import java.util.function.Supplier;
+
+/**
+ * The tenant (site) the current thread works for. Request threads are bound by TenantFilter and
+ * async request work inherits the binding. Threads with no tenant bound, such as startup and
+ * scheduled jobs, act as ROOT: Hibernate shows them every tenant's rows and keeps the tenant id
+ * they assign. Jobs that work per tenant switch with {@link #callAs}.
+ */
+public final class TenantContext {
+    
+    public static final String DEFAULT_TENANT = "default";
+    public static final String ROOT = "*";
+    
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+    
+    private TenantContext() {}
+    
+    public static String current() {
+        String tenantId = CURRENT.get();
+        return tenantId != null ? tenantId : ROOT;
+    }
+    
+    public static void set(String tenantId) {
+        CURRENT.set(tenantId);
+    }
+    
+    public static void clear() {
+        CURRENT.remove();
+    }
+    
+    // Hibernate fixes a session's tenant when it opens, so start transactions inside the callback
+    public static <T> T callAs(String tenantId, Supplier<T> work) {
+        String previous = CURRENT.get();
+        CURRENT.set(tenantId);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+    
+    public static void runAs(String tenantId, Runnable work) {
+        callAs(tenantId, () -> {
+            work.run();
+            return null;
+        });
+    }
+    
+    // Carries the caller's tenant over to a task run on another thread
+    public static Runnable wrap(Runnable task) {
+        String tenantId = CURRENT.get();
+        if (tenantId == null) {
+            return task;
+        }
+        return () -> runAs(tenantId, task);
+    }
+}
@@ -0,0 +1,77 @@
+package com.clockin.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The sites this backend serves, configured as clockin.tenants.&lt;id&gt;.employee-access-code and
+ * clockin.tenants.&lt;id&gt;.admin-access-code. Access codes are checked against the current tenant
+ * unless one is given.
+ */
+@Component
+@ConfigurationProperties(prefix = "clockin")
+public class TenantDirectory {
+    
+    private Map<String, Tenant> tenants = new LinkedHashMap<>();
+    
+    public boolean exists(String tenantId) {
+        return tenants.containsKey(tenantId);
+    }
+    
+    public Set<String> getTenantIds() {
+        return tenants.keySet();
+    }
+    
+    public boolean isEmployeeAccessCode(String accessCode) {
+        return isEmployeeAccessCode(TenantContext.current(), accessCode);
+    }
+    
+    public boolean isAdminAccessCode(String accessCode) {
+        return isAdminAccessCode(TenantContext.current(), accessCode);
+    }
+    
+    // For reactive requests, which carry their tenant with the exchange rather than the thread
+    public boolean isEmployeeAccessCode(String tenantId, String accessCode) {
+        Tenant tenant = tenants.get(tenantId);
+        return tenant != null && accessCode != null && accessCode.equals(tenant.getEmployeeAccessCode());
+    }
+    
+    public boolean isAdminAccessCode(String tenantId, String accessCode) {
+        Tenant tenant = tenants.get(tenantId);
+        return tenant != null && accessCode != null && accessCode.equals(tenant.getAdminAccessCode());
+    }
+    
+    public Map<String, Tenant> getTenants() {
+        return tenants;
+    }
+    
+    public void setTenants(Map<String, Tenant> tenants) {
+        this.tenants = tenants;
+    }
+    
+    public static class Tenant {
+        
+        private String employeeAccessCode;
+        private String adminAccessCode;
+        
+        public String getEmployeeAccessCode() {
+            return employeeAccessCode;
+        }
+        
+        public void setEmployeeAccessCode(String employeeAccessCode) {
+            this.employeeAccessCode = employeeAccessCode;
+        }
+        
+        public String getAdminAccessCode() {
+            return adminAccessCode;
+        }
+        
+        public void setAdminAccessCode(String adminAccessCode) {
+            this.adminAccessCode = adminAccessCode;
+        }
+    }
+}
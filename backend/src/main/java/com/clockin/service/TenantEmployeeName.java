@@ -0,0 +1,11 @@
+package com.clockin.service;
+
+/**
+ * An employee's natural key across tenants, for in-memory state shared by all of them.
+ */
+public record TenantEmployeeName(String tenantId, String firstName, String lastName) {
+    
+    static TenantEmployeeName inCurrentTenant(String firstName, String lastName) {
+        return new TenantEmployeeName(TenantContext.current(), firstName, lastName);
+    }
+}
@@ -0,0 +1,265 @@
+package com.clockin.service;
+
+import com.clockin.dto.CursorPage;
+import com.clockin.dto.DailyHours;
+import com.clockin.dto.TimeAlertResponse;
+import com.clockin.model.EmployeeSummary;
+import com.clockin.model.TimeAlert;
+import com.clockin.model.TimeEntry;
+import com.clockin.repository.EmployeeSummaryRepository;
+import com.clockin.repository.TimeAlertRepository;
+import com.clockin.repository.TimeEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Raises alerts for daily and weekly overtime as entries close, and for sessions left open too
+ * long. Overtime is checked against running day and week counters on the employee's summary row,
+ * which the clock-out transaction already holds locked, so a clock-out costs no extra query.
+ */
+@Service
+public class TimeAlertService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TimeAlertService.class);
+    
+    @Value("${clockin.alerts.forgotten-clock-out-hours:12}")
+    private double forgottenClockOutHours;
+    
+    @Autowired
+    private TimeAlertRepository timeAlertRepository;
+    
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+    
+    @Autowired
+    private EmployeeSummaryRepository employeeSummaryRepository;
+    
+    @Autowired
+    private OvertimePolicy overtimePolicy;
+    
+    @Autowired
+    private WorkCalendar workCalendar;
+    
+    @Autowired
+    private ClockinMetrics clockinMetrics;
+    
+    // Called inside the clock-out or batch transaction with the employee's summary locked and the
+    // closed entries already written
+    public void recordClosedEntries(EmployeeSummary summary, List<TimeEntry> closedEntries) {
+        if (closedEntries.isEmpty()) {
+            return;
+        }
+        List<TimeEntry> entries = closedEntries.stream()
+                .sorted(Comparator.comparing(TimeEntry::getClockInTime))
+                .collect(Collectors.toList());
+        for (TimeEntry entry : entries) {
+            if (entry.getTotalHours() != null && entry.getTotalHours() >= forgottenClockOutHours) {
+                timeAlertRepository.resolveOpen(entry.getId(), TimeAlert.Type.FORGOTTEN_CLOCK_OUT, workCalendar.now());
+            }
+        }
+        
+        // Entries on or after the counters' day just add on; anything earlier, or missing counters,
+        // means the counters cannot tell what was worked before, so read the weeks back instead
+        LocalDate counterDate = summary.getCounterDate();
+        if (counterDate != null && !entries.get(0).getClockInTime().toLocalDate().isBefore(counterDate)) {
+            for (TimeEntry entry : entries) {
+                addToCounters(summary, entry);
+            }
+        } else {
+            recountWeeks(summary, entries);
+        }
+    }
+    
+    // For clock-outs written outside JPA, which commit before the alerts are checked
+    @Transactional
+    public void recordClosedEntry(Long entryId) {
+        timeEntryRepository.findById(entryId).ifPresent(entry -> employeeSummaryRepository
+                .findByEmployeeIdForUpdate(entry.getEmployee().getId())
+                .ifPresent(summary -> recordClosedEntries(summary, List.of(entry))));
+    }
+    
+    private void addToCounters(EmployeeSummary summary, TimeEntry entry) {
+        double dailyLimit = overtimePolicy.getDailyOvertimeHours();
+        LocalDate day = entry.getClockInTime().toLocalDate();
+        LocalDate weekStart = workCalendar.weekStartOf(day);
+        double hours = entry.getTotalHours() != null ? entry.getTotalHours() : 0.0;
+        
+        double dayBefore = day.equals(summary.getCounterDate()) ? summary.getDayHours() : 0.0;
+        double weekBefore = weekStart.equals(summary.getWeekStart()) ? summary.getWeekRegularHours() : 0.0;
+        double dayAfter = dayBefore + hours;
+        double weekAfter = weekBefore - Math.min(dayBefore, dailyLimit) + Math.min(dayAfter, dailyLimit);
+        
+        if (crosses(dayBefore, dayAfter, dailyLimit)) {
+            raise(TimeAlert.Type.DAILY_OVERTIME, entry, day, dayAfter);
+        }
+        if (crosses(weekBefore, weekAfter, overtimePolicy.getWeeklyOvertimeHours())) {
+            raise(TimeAlert.Type.WEEKLY_OVERTIME, entry, weekStart, weekAfter);
+        }
+        
+        summary.setCounterDate(day);
+        summary.setDayHours(dayAfter);
+        summary.setWeekStart(weekStart);
+        summary.setWeekRegularHours(weekAfter);
+    }
+    
+    // Works out each touched day and week from the database totals, which already include the
+    // entries, by taking the entries back out for the before side
+    private void recountWeeks(EmployeeSummary summary, List<TimeEntry> entries) {
+        double dailyLimit = overtimePolicy.getDailyOvertimeHours();
+        Map<LocalDate, Map<LocalDate, List<TimeEntry>>> weeks = new TreeMap<>();
+        for (TimeEntry entry : entries) {
+            LocalDate day = entry.getClockInTime().toLocalDate();
+            weeks.computeIfAbsent(workCalendar.weekStartOf(day), k -> new TreeMap<>())
+                    .computeIfAbsent(day, k -> new ArrayList<>())
+                    .add(entry);
+        }
+        
+        for (Map.Entry<LocalDate, Map<LocalDate, List<TimeEntry>>> week : weeks.entrySet()) {
+            LocalDate weekStart = week.getKey();
+            Map<LocalDate, List<TimeEntry>> touchedDays = week.getValue();
+            // Newest day first
+            List<DailyHours> days = timeEntryRepository.sumHoursByDay(summary.getEmployeeId(),
+                    weekStart.atStartOfDay(), weekStart.plusDays(WorkCalendar.DAYS_PER_WEEK).atStartOfDay());
+            
+            double weekBefore = 0.0;
+            double weekAfter = 0.0;
+            TimeEntry latestEntry = null;
+            for (DailyHours day : days) {
+                double dayAfter = day.getTotalHours() != null ? day.getTotalHours() : 0.0;
+                double dayBefore = dayAfter;
+                List<TimeEntry> dayEntries = touchedDays.get(day.getDate());
+                if (dayEntries != null) {
+                    for (TimeEntry entry : dayEntries) {
+                        dayBefore -= entry.getTotalHours() != null ? entry.getTotalHours() : 0.0;
+                    }
+                    TimeEntry dayLatest = dayEntries.get(dayEntries.size() - 1);
+                    if (latestEntry == null) {
+                        latestEntry = dayLatest;
+                    }
+                    if (crosses(dayBefore, dayAfter, dailyLimit)) {
+                        raiseOnce(TimeAlert.Type.DAILY_OVERTIME, dayLatest, day.getDate(), dayAfter);
+                    }
+                }
+                weekBefore += Math.min(dayBefore, dailyLimit);
+                weekAfter += Math.min(dayAfter, dailyLimit);
+            }
+            if (latestEntry != null && crosses(weekBefore, weekAfter, overtimePolicy.getWeeklyOvertimeHours())) {
+                raiseOnce(TimeAlert.Type.WEEKLY_OVERTIME, latestEntry, weekStart, weekAfter);
+            }
+            
+            // Weeks come oldest first, so the counters end on the newest week they may describe
+            if (!days.isEmpty() && (summary.getWeekStart() == null || !weekStart.isBefore(summary.getWeekStart()))) {
+                DailyHours latestDay = days.get(0);
+                summary.setCounterDate(latestDay.getDate());
+                summary.setDayHours(latestDay.getTotalHours() != null ? latestDay.getTotalHours() : 0.0);
+                summary.setWeekStart(weekStart);
+                summary.setWeekRegularHours(weekAfter);
+            }
+        }
+    }
+    
+    private static boolean crosses(double before, double after, double limit) {
+        return before <= limit && after > limit;
+    }
+    
+    // Recounting may revisit a day or week that already crossed, e.g. after an import
+    private void raiseOnce(TimeAlert.Type type, TimeEntry entry, LocalDate workDate, double hours) {
+        if (!timeAlertRepository.existsByEmployeeIdAndTypeAndWorkDate(entry.getEmployee().getId(), type, workDate)) {
+            raise(type, entry, workDate, hours);
+        }
+    }
+    
+    private void raise(TimeAlert.Type type, TimeEntry entry, LocalDate workDate, double hours) {
+        timeAlertRepository.save(new TimeAlert(type, entry, workDate, round(hours), workCalendar.now()));
+        clockinMetrics.recordAlert(type.name());
+    }
+    
+    // Runs outside any tenant, so the sweep covers every site
+    @Scheduled(initialDelayString = "${clockin.alerts.sweep-interval-ms:300000}",
+               fixedDelayString = "${clockin.alerts.sweep-interval-ms:300000}")
+    @Transactional
+    public void sweepForgottenClockOuts() {
+        LocalDateTime now = workCalendar.now();
+        LocalDateTime cutoff = now.minus(Duration.ofMinutes(Math.round(forgottenClockOutHours * 60)));
+        List<TimeEntry> staleEntries = timeEntryRepository.findActiveWithoutAlert(cutoff, TimeAlert.Type.FORGOTTEN_CLOCK_OUT);
+        for (TimeEntry entry : staleEntries) {
+            raise(TimeAlert.Type.FORGOTTEN_CLOCK_OUT, entry, entry.getClockInTime().toLocalDate(),
+                    TimeEntryService.hoursBetween(entry.getClockInTime(), now));
+        }
+        int resolved = timeAlertRepository.resolveClosedSessions(TimeAlert.Type.FORGOTTEN_CLOCK_OUT, now);
+        if (!staleEntries.isEmpty() || resolved > 0) {
+            logger.info("Forgotten clock-out sweep: {} raised, {} resolved", staleEntries.size(), resolved);
+        }
+    }
+    
+    public CursorPage<TimeAlertResponse> getOpenAlerts(String cursor, Integer limit) {
+        int pageSize = PageCursors.clampPageSize(limit);
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+        
+        List<TimeAlert> alerts;
+        if (cursor == null || cursor.isBlank()) {
+            alerts = timeAlertRepository.findByResolvedAtIsNullOrderByIdDesc(pageable);
+        } else {
+            long afterId;
+            try {
+                afterId = Long.parseLong(PageCursors.decode(cursor, 1)[0]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            alerts = timeAlertRepository.findByResolvedAtIsNullAndIdLessThanOrderByIdDesc(afterId, pageable);
+        }
+        clockinMetrics.recordRowsScanned("alerts", alerts.size());
+        
+        String nextCursor = null;
+        if (alerts.size() > pageSize) {
+            alerts = alerts.subList(0, pageSize);
+            nextCursor = PageCursors.encode(String.valueOf(alerts.get(pageSize - 1).getId()));
+        }
+        List<TimeAlertResponse> items = alerts.stream().map(this::convertToResponse).collect(Collectors.toList());
+        return new CursorPage<>(items, nextCursor);
+    }
+    
+    @Transactional
+    public TimeAlertResponse dismiss(Long alertId) {
+        TimeAlert alert = timeAlertRepository.findInTenantById(alertId)
+                .orElseThrow(() -> new AlertNotFoundException("Alert not found"));
+        if (alert.getResolvedAt() == null) {
+            alert.setResolvedAt(workCalendar.now());
+        }
+        return convertToResponse(alert);
+    }
+    
+    private TimeAlertResponse convertToResponse(TimeAlert alert) {
+        return new TimeAlertResponse(
+                alert.getId(),
+                alert.getType().name(),
+                alert.getFirstName(),
+                alert.getLastName(),
+                alert.getEntryId(),
+                alert.getWorkDate(),
+                alert.getHours(),
+                alert.getRaisedAt()
+        );
+    }
+    
+    private static double round(double hours) {
+        return Math.round(hours * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,263 @@
+package com.clockin.service;
+
+import com.clockin.dto.ArchivedTimeEntry;
+import com.clockin.dto.TimeEntryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cold storage for time entries that {@link TimeEntryArchiver} moved out of the database
+ * (clockin.archive.enabled). Each archiver run writes one gzip-compressed NDJSON part per month,
+ * sorted by employee and then newest first, so a month may have several parts. Next to each part
+ * an index file lists the employees it holds, kept in memory, so reads only decompress the parts
+ * of the employee asked for, one month at a time, and stop as soon as they have enough entries.
+ */
+@Component
+public class TimeEntryArchive {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TimeEntryArchive.class);
+    
+    private static final Pattern PART_NAME = Pattern.compile("time-entries-(\\d{4}-\\d{2})\\.(\\d+)\\.ndjson\\.gz");
+    
+    static final Comparator<TimeEntryResponse> NEWEST_FIRST = Comparator
+            .comparing(TimeEntryResponse::getClockInTime)
+            .thenComparing(TimeEntryResponse::getId)
+            .reversed();
+    
+    @Value("${clockin.archive.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${clockin.archive.directory:./data/archive}")
+    private String directory;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private final NavigableMap<YearMonth, List<Path>> parts = new ConcurrentSkipListMap<>();
+    // Sorted employee ids of each part
+    private final Map<Path, long[]> partEmployees = new ConcurrentHashMap<>();
+    
+    private Path archiveDirectory;
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        archiveDirectory = Path.of(directory);
+        Files.createDirectories(archiveDirectory);
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            for (Path file : files.toList()) {
+                if (file.getFileName().toString().endsWith(".tmp")) {
+                    // Left behind by a run that died before the rename; its rows are still in the database
+                    Files.delete(file);
+                } else if (PART_NAME.matcher(file.getFileName().toString()).matches()) {
+                    partEmployees.put(file, loadIndex(file));
+                    register(file);
+                }
+            }
+        }
+    }
+    
+    // Every archived entry was clocked in before this
+    public Optional<LocalDateTime> getArchivedBefore() {
+        if (parts.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(parts.lastKey().plusMonths(1).atDay(1).atStartOfDay());
+    }
+    
+    public boolean hasEntries(Long employeeId) {
+        for (long[] employees : partEmployees.values()) {
+            if (Arrays.binarySearch(employees, employeeId) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // entries must be sorted by employee id, then newest first
+    public void write(YearMonth month, List<ArchivedTimeEntry> entries) throws IOException {
+        String name = String.format("time-entries-%s.%d.ndjson.gz", month, System.currentTimeMillis());
+        Path part = archiveDirectory.resolve(name);
+        Path temp = archiveDirectory.resolve(name + ".tmp");
+        
+        // The index goes first, so every part that is visible has one
+        long[] employees = entries.stream().mapToLong(ArchivedTimeEntry::getEmployeeId).distinct().toArray();
+        writeIndex(part, employees);
+        
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            GZIPOutputStream out = new GZIPOutputStream(new BufferedOutputStream(file, 64 * 1024));
+            for (ArchivedTimeEntry entry : entries) {
+                out.write(objectMapper.writeValueAsBytes(entry));
+                out.write('\n');
+            }
+            out.finish();
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temp, part, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+        partEmployees.put(part, employees);
+        register(part);
+    }
+    
+    private void writeIndex(Path part, long[] employees) throws IOException {
+        Path index = indexOf(part);
+        Path temp = archiveDirectory.resolve(index.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            StringBuilder ids = new StringBuilder();
+            for (long employee : employees) {
+                ids.append(employee).append('\n');
+            }
+            file.write(ids.toString().getBytes(StandardCharsets.US_ASCII));
+            file.getFD().sync();
+        }
+        Files.move(temp, index, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    // Parts written before indexes existed are scanned once and indexed then
+    private long[] loadIndex(Path part) throws IOException {
+        Path index = indexOf(part);
+        if (Files.exists(index)) {
+            try (Stream<String> lines = Files.lines(index, StandardCharsets.US_ASCII)) {
+                return lines.filter(line -> !line.isBlank()).mapToLong(Long::parseLong).sorted().toArray();
+            }
+        }
+        long[] employees;
+        try (BufferedReader reader = openPart(part)) {
+            employees = reader.lines()
+                    .mapToLong(line -> readEntry(part, line).getEmployeeId())
+                    .distinct().sorted().toArray();
+        }
+        writeIndex(part, employees);
+        return employees;
+    }
+    
+    private static Path indexOf(Path part) {
+        String name = part.getFileName().toString();
+        return part.resolveSibling(name.substring(0, name.length() - ".ndjson.gz".length()) + ".employees");
+    }
+    
+    // One employee's archived entries after the cursor (null for the first page), newest first
+    List<TimeEntryResponse> findPage(Long employeeId, PageCursors.EntryKey after, int limit) {
+        NavigableMap<YearMonth, List<Path>> months = after == null
+                ? parts.descendingMap()
+                : parts.headMap(YearMonth.from(after.clockInTime()), true).descendingMap();
+        
+        List<TimeEntryResponse> page = new ArrayList<>();
+        for (List<Path> monthParts : months.values()) {
+            // Keyed by id: a run that died between writing and deleting archives the same rows again
+            Map<Long, TimeEntryResponse> entries = new HashMap<>();
+            for (Path part : monthParts) {
+                long[] employees = partEmployees.get(part);
+                if (employees == null || Arrays.binarySearch(employees, employeeId) >= 0) {
+                    readPart(part, employeeId, after, entries);
+                }
+            }
+            List<TimeEntryResponse> sorted = new ArrayList<>(entries.values());
+            sorted.sort(NEWEST_FIRST);
+            page.addAll(sorted);
+            if (page.size() >= limit) {
+                return page.subList(0, limit);
+            }
+        }
+        return page;
+    }
+    
+    private void readPart(Path part, Long employeeId, PageCursors.EntryKey after, Map<Long, TimeEntryResponse> entries) {
+        try (BufferedReader reader = openPart(part)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                ArchivedTimeEntry entry = readEntry(part, line);
+                int order = entry.getEmployeeId().compareTo(employeeId);
+                if (order > 0) {
+                    break;
+                }
+                if (order == 0 && isAfter(entry, after)) {
+                    entries.put(entry.getId(), new TimeEntryResponse(entry.getId(), entry.getFirstName(), entry.getLastName(),
+                            entry.getClockInTime(), entry.getClockOutTime(), entry.getTotalHours(), false));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read archive " + part.getFileName(), e);
+        }
+    }
+    
+    private static BufferedReader openPart(Path part) throws IOException {
+        return new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(part), 64 * 1024), StandardCharsets.UTF_8));
+    }
+    
+    private ArchivedTimeEntry readEntry(Path part, String line) {
+        try {
+            return objectMapper.readValue(line, ArchivedTimeEntry.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read archive " + part.getFileName(), e);
+        }
+    }
+    
+    private static boolean isAfter(ArchivedTimeEntry entry, PageCursors.EntryKey after) {
+        if (after == null) {
+            return true;
+        }
+        int order = entry.getClockInTime().compareTo(after.clockInTime());
+        return order < 0 || (order == 0 && entry.getId() < after.id());
+    }
+    
+    private void register(Path file) {
+        Matcher matcher = PART_NAME.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+            parts.computeIfAbsent(YearMonth.parse(matcher.group(1)), month -> new CopyOnWriteArrayList<>()).add(file);
+        }
+    }
+    
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(archiveDirectory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Not every platform can fsync a directory; the file contents are still synced
+            logger.debug("Could not sync archive directory", e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.clockin.service;
+
+import com.clockin.dto.ArchivedTimeEntry;
+import com.clockin.repository.EmployeeRepository;
+import com.clockin.repository.TimeEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Moves closed time entries older than clockin.archive.horizon-months from time_entries into the
+ * {@link TimeEntryArchive}, a month at a time. Each month is written to the archive before its rows
+ * are deleted, so a crash in between leaves duplicates that readers skip rather than a gap.
+ * Tenants are archived one after another, each up to its own last closed pay period; tenants that
+ * have never closed one keep all of their entries.
+ */
+@Component
+public class TimeEntryArchiver {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TimeEntryArchiver.class);
+    
+    private static final int DELETE_CHUNK_SIZE = 1000;
+    
+    @Value("${clockin.archive.horizon-months:12}")
+    private int horizonMonths;
+    
+    @Autowired
+    private TimeEntryArchive timeEntryArchive;
+    
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+    
+    @Autowired
+    private TimeEntryPartitioning timeEntryPartitioning;
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private PayrollService payrollService;
+    
+    @Autowired
+    private AdminViewCache adminViewCache;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private WorkCalendar workCalendar;
+    
+    @Scheduled(cron = "${clockin.archive.cron:0 30 3 * * *}")
+    public void archiveOldEntries() {
+        if (!timeEntryArchive.isEnabled()) {
+            return;
+        }
+        int archived = 0;
+        for (String tenantId : employeeRepository.findTenantIds()) {
+            archived += TenantContext.callAs(tenantId, this::archiveTenant);
+        }
+        if (archived > 0) {
+            adminViewCache.clearAll();
+        }
+    }
+    
+    private int archiveTenant() {
+        // Open pay periods are still computed from time_entries, so only whole closed months may go. A tenant
+        // that has never closed a period may still close one over any dates, so nothing of it is archived yet.
+        Optional<LocalDate> closedThrough = payrollService.getClosedThrough();
+        if (closedThrough.isEmpty()) {
+            return 0;
+        }
+        YearMonth cutoff = YearMonth.now(workCalendar.getZone()).minusMonths(horizonMonths);
+        YearMonth firstOpenMonth = YearMonth.from(closedThrough.get().plusDays(1));
+        if (firstOpenMonth.isBefore(cutoff)) {
+            cutoff = firstOpenMonth;
+        }
+        
+        Optional<LocalDateTime> oldest = timeEntryRepository.findOldestClosedClockInTime();
+        if (oldest.isEmpty()) {
+            return 0;
+        }
+        int archived = 0;
+        for (YearMonth month = YearMonth.from(oldest.get()); month.isBefore(cutoff); month = month.plusMonths(1)) {
+            archived += archiveMonth(month);
+        }
+        if (archived > 0) {
+            logger.info("Archived {} time entries of tenant {} clocked in before {}", archived, TenantContext.current(),
+                    cutoff.atDay(1));
+        }
+        return archived;
+    }
+    
+    private int archiveMonth(YearMonth month) {
+        List<ArchivedTimeEntry> entries = timeEntryRepository.findClosedForArchive(
+                month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+        if (!entries.isEmpty()) {
+            try {
+                timeEntryArchive.write(month, entries);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not archive time entries for " + month, e);
+            }
+            List<Long> ids = entries.stream().map(ArchivedTimeEntry::getId).collect(Collectors.toList());
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < ids.size(); i += DELETE_CHUNK_SIZE) {
+                    timeEntryRepository.deleteByIdIn(ids.subList(i, Math.min(i + DELETE_CHUNK_SIZE, ids.size())));
+                }
+            });
+        }
+        timeEntryPartitioning.dropPartitionIfEmpty(month);
+        return entries.size();
+    }
+}
@@ -0,0 +1,425 @@
+package com.clockin.service;
+
+import com.clockin.dto.ImportResultResponse;
+import com.clockin.dto.ImportRowError;
+import com.clockin.dto.TimeEntryImportRow;
+import com.clockin.dto.TimeEntryResponse;
+import com.clockin.model.Employee;
+import com.clockin.model.TimeEntry;
+import com.clockin.repository.TimeEntryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Bulk movement of historical time entries as CSV or NDJSON. Imports are read as a stream and
+ * written in chunks of clockin.import.chunk-size rows, each in its own transaction with JDBC
+ * batching, so memory stays flat and a failure keeps the chunks already written. Rows that are
+ * already stored (same employee and clock-in time) are skipped, so an import can simply be rerun.
+ * Exports stream from a database cursor filtered by clock-in date.
+ */
+@Service
+public class TimeEntryBulkService {
+    
+    public static final String CSV = "csv";
+    public static final String NDJSON = "ndjson";
+    
+    private static final CsvSchema EXPORT_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("firstName")
+            .addColumn("lastName")
+            .addColumn("clockInTime")
+            .addColumn("clockOutTime")
+            .addColumn("totalHours")
+            .addColumn("isActive")
+            .build()
+            .withHeader();
+    
+    private static final LocalDateTime EARLIEST_CLOCK_IN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST_CLOCK_IN = LocalDateTime.of(9999, 1, 1, 0, 0);
+    
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    
+    @Value("${clockin.import.chunk-size:1000}")
+    private int chunkSize;
+    
+    @Value("${clockin.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+    
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private EmployeeSummaryService employeeSummaryService;
+    
+    @Autowired
+    private PayrollService payrollService;
+    
+    @Autowired
+    private AdminViewCache adminViewCache;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private ClockinMetrics clockinMetrics;
+    
+    @Autowired
+    private WorkCalendar workCalendar;
+    
+    public static boolean isSupportedFormat(String format) {
+        return CSV.equals(format) || NDJSON.equals(format);
+    }
+    
+    // Only closed entries can be imported; open sessions go through clock-in or batch punches
+    public ImportResultResponse importEntries(InputStream inputStream, String format) throws IOException {
+        ImportRun run = new ImportRun(payrollService.getClosedThrough().orElse(null), workCalendar.now());
+        try {
+            if (CSV.equals(format)) {
+                readCsv(inputStream, run);
+            } else {
+                readNdjson(inputStream, run);
+            }
+            run.flush();
+        } finally {
+            if (run.result.getImported() > 0) {
+                adminViewCache.clear(TenantContext.current());
+            }
+        }
+        return run.result;
+    }
+    
+    private void readCsv(InputStream inputStream, ImportRun run) throws IOException {
+        CsvSchema schema = CsvSchema.emptySchema().withHeader();
+        try (MappingIterator<TimeEntryImportRow> rows = csvMapper.readerFor(TimeEntryImportRow.class)
+                .with(schema)
+                .readValues(inputStream)) {
+            long rowNumber = 0;
+            while (true) {
+                TimeEntryImportRow row;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    row = rows.nextValue();
+                } catch (IOException | RuntimeException e) {
+                    // A broken quote or column count leaves no safe place to resume from
+                    run.reject(rowNumber + 1, "Malformed CSV, import stopped here: " + e.getMessage());
+                    break;
+                }
+                run.add(++rowNumber, row);
+            }
+        }
+    }
+    
+    private void readNdjson(InputStream inputStream, ImportRun run) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            long rowNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Numbered by line so errors point at the right place even with blank lines
+                rowNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    run.add(rowNumber, objectMapper.readValue(line, TimeEntryImportRow.class));
+                } catch (JsonProcessingException e) {
+                    run.reject(rowNumber, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public void exportEntries(OutputStream outputStream, String format, LocalDate from, LocalDate to) throws IOException {
+        LocalDateTime startTime = from != null ? from.atStartOfDay() : EARLIEST_CLOCK_IN;
+        LocalDateTime endTime = to != null ? to.plusDays(1).atStartOfDay() : LATEST_CLOCK_IN;
+        long rowsScanned = 0;
+        
+        try (Stream<TimeEntryResponse> entries = timeEntryRepository.streamByClockInRange(startTime, endTime);
+             BufferedOutputStream out = new BufferedOutputStream(outputStream, 64 * 1024)) {
+            Iterator<TimeEntryResponse> it = entries.iterator();
+            if (CSV.equals(format)) {
+                try (SequenceWriter writer = csvMapper.writer(EXPORT_SCHEMA).writeValues(out)) {
+                    while (it.hasNext()) {
+                        writer.write(it.next());
+                        rowsScanned++;
+                    }
+                }
+            } else {
+                while (it.hasNext()) {
+                    out.write(objectMapper.writeValueAsBytes(it.next()));
+                    out.write('\n');
+                    rowsScanned++;
+                }
+            }
+        }
+        clockinMetrics.recordRowsScanned("entries-export", rowsScanned);
+    }
+    
+    private static boolean isPresent(String value) {
+        return value != null && !value.isBlank();
+    }
+    
+    // Accepts ISO timestamps, with either a T or a space between date and time
+    private static LocalDateTime parseTimestamp(String value) {
+        String text = value.trim();
+        if (text.length() > 10 && text.charAt(10) == ' ') {
+            text = text.substring(0, 10) + 'T' + text.substring(11);
+        }
+        return LocalDateTime.parse(text);
+    }
+    
+    private record ValidRow(long rowNumber, EmployeeName name, LocalDateTime clockInTime, LocalDateTime clockOutTime) {}
+    
+    private record EntryKey(Long employeeId, LocalDateTime clockInTime) {}
+    
+    // State of one import: the chunk being collected and the running result
+    private class ImportRun {
+        
+        private final LocalDate closedThrough;
+        private final LocalDateTime now;
+        private final ImportResultResponse result = new ImportResultResponse();
+        private final List<ValidRow> chunk = new ArrayList<>();
+        private final Map<EmployeeName, Employee> employees = new HashMap<>();
+        
+        private ImportRun(LocalDate closedThrough, LocalDateTime now) {
+            this.closedThrough = closedThrough;
+            this.now = now;
+        }
+        
+        void add(long rowNumber, TimeEntryImportRow row) {
+            try {
+                chunk.add(validate(rowNumber, row));
+            } catch (IllegalArgumentException e) {
+                reject(rowNumber, e.getMessage());
+                return;
+            }
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+        
+        void reject(long rowNumber, String error) {
+            result.setRejected(result.getRejected() + 1);
+            if (result.getErrors().size() < maxReportedErrors) {
+                result.getErrors().add(new ImportRowError(rowNumber, error));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+        
+        private ValidRow validate(long rowNumber, TimeEntryImportRow row) {
+            if (row == null || !isPresent(row.getFirstName()) || !isPresent(row.getLastName())) {
+                throw new IllegalArgumentException("First name and last name are required");
+            }
+            if (!isPresent(row.getClockInTime())) {
+                throw new IllegalArgumentException("clockInTime is required");
+            }
+            if (!isPresent(row.getClockOutTime())) {
+                throw new IllegalArgumentException("clockOutTime is required; open entries cannot be imported");
+            }
+            LocalDateTime clockInTime;
+            LocalDateTime clockOutTime;
+            try {
+                clockInTime = parseTimestamp(row.getClockInTime());
+                clockOutTime = parseTimestamp(row.getClockOutTime());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Timestamps must be ISO date-times, e.g. 2024-01-31T08:30:00");
+            }
+            if (clockOutTime.isBefore(clockInTime)) {
+                throw new IllegalArgumentException("Clock-out time is before clock-in time");
+            }
+            if (clockOutTime.isAfter(now)) {
+                throw new IllegalArgumentException("Clock-out time is in the future");
+            }
+            if (closedThrough != null && !clockInTime.toLocalDate().isAfter(closedThrough)) {
+                throw new IllegalArgumentException("Entry falls in a closed pay period");
+            }
+            return new ValidRow(rowNumber, new EmployeeName(row.getFirstName(), row.getLastName()), clockInTime, clockOutTime);
+        }
+        
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<ValidRow> rows = new ArrayList<>(chunk);
+            chunk.clear();
+            
+            // Employees are created up front, outside the transaction, as for batch punches;
+            // each name is resolved once per import
+            Set<EmployeeName> names = rows.stream().map(ValidRow::name)
+                    .filter(name -> !employees.containsKey(name))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            if (!names.isEmpty()) {
+                employees.putAll(employeeService.findOrCreateEmployees(names));
+            }
+            
+            int imported;
+            try {
+                imported = transactionTemplate.execute(status -> writeChunk(rows));
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Import stopped at row " + rows.get(0).rowNumber() + " after "
+                        + result.getImported() + " entries were imported (a rerun skips them): " + e.getMessage(), e);
+            }
+            result.setImported(result.getImported() + imported);
+        }
+        
+        private int writeChunk(List<ValidRow> rows) {
+            List<TimeEntry> entries = new ArrayList<>(rows.size());
+            for (ValidRow row : rows) {
+                TimeEntry entry = new TimeEntry(employees.get(row.name()));
+                entry.setClockInTime(row.clockInTime());
+                entry.setClockOutTime(row.clockOutTime());
+                entry.setTotalHours(TimeEntryService.hoursBetween(row.clockInTime(), row.clockOutTime()));
+                entry.setIsActive(false);
+                entry.setActiveEmployeeId(null);
+                entries.add(entry);
+            }
+            
+            List<TimeEntry> imported = jdbcTemplate.execute((ConnectionCallback<List<TimeEntry>>) connection ->
+                    connection.isWrapperFor(PGConnection.class) ? copyNewEntries(connection, entries) : saveNewEntries(entries));
+            result.setDuplicates(result.getDuplicates() + entries.size() - imported.size());
+            if (!imported.isEmpty()) {
+                employeeSummaryService.recordImport(imported);
+            }
+            return imported.size();
+        }
+    }
+    
+    // Rows already stored, and repeats within the chunk, are left out
+    private List<TimeEntry> saveNewEntries(List<TimeEntry> entries) {
+        Set<EntryKey> stored = new HashSet<>();
+        for (TimeEntryRepository.EmployeeClockIn existing : timeEntryRepository.findClockIns(
+                entries.stream().map(TimeEntry::getClockInTime).collect(Collectors.toSet()))) {
+            stored.add(new EntryKey(existing.getEmployeeId(), existing.getClockInTime()));
+        }
+        List<TimeEntry> newEntries = entries.stream()
+                .filter(entry -> stored.add(new EntryKey(entry.getEmployee().getId(), entry.getClockInTime())))
+                .collect(Collectors.toList());
+        timeEntryRepository.saveAllAndFlush(newEntries);
+        return newEntries;
+    }
+    
+    // PostgreSQL: COPY the chunk into a temporary table, then insert what is new in one statement
+    private List<TimeEntry> copyNewEntries(Connection connection, List<TimeEntry> entries) throws SQLException {
+        assignIds(connection, entries);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMPORARY TABLE IF NOT EXISTS time_entries_import (id bigint, tenant_id varchar(64), " +
+                    "employee_id bigint, first_name varchar(255), last_name varchar(255), clock_in_time timestamp(6), " +
+                    "clock_out_time timestamp(6), total_hours float8) ON COMMIT DELETE ROWS");
+        }
+        
+        // Written around Hibernate, so the tenant column is filled in here
+        String tenantId = quote(TenantContext.current());
+        StringBuilder csv = new StringBuilder(entries.size() * 96);
+        for (TimeEntry entry : entries) {
+            csv.append(entry.getId()).append(',')
+                    .append(tenantId).append(',')
+                    .append(entry.getEmployee().getId()).append(',')
+                    .append(quote(entry.getFirstName())).append(',')
+                    .append(quote(entry.getLastName())).append(',')
+                    .append(entry.getClockInTime()).append(',')
+                    .append(entry.getClockOutTime()).append(',')
+                    .append(entry.getTotalHours()).append('\n');
+        }
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY time_entries_import FROM STDIN (FORMAT csv)", new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new SQLException("Could not copy import rows", e);
+        }
+        
+        Set<Long> insertedIds = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet inserted = statement.executeQuery(
+                     "INSERT INTO time_entries (id, tenant_id, employee_id, first_name, last_name, clock_in_time, " +
+                     "clock_out_time, total_hours, is_active) " +
+                     "SELECT DISTINCT ON (s.employee_id, s.clock_in_time) s.id, s.tenant_id, s.employee_id, s.first_name, " +
+                     "s.last_name, s.clock_in_time, s.clock_out_time, s.total_hours, false FROM time_entries_import s " +
+                     "WHERE NOT EXISTS (SELECT 1 FROM time_entries t " +
+                     "WHERE t.employee_id = s.employee_id AND t.clock_in_time = s.clock_in_time) " +
+                     "ORDER BY s.employee_id, s.clock_in_time, s.id RETURNING id")) {
+            while (inserted.next()) {
+                insertedIds.add(inserted.getLong(1));
+            }
+        }
+        return entries.stream().filter(entry -> insertedIds.contains(entry.getId())).collect(Collectors.toList());
+    }
+    
+    // Takes whole blocks from time_entries_seq the way Hibernate's pooled optimizer does, so the
+    // ids cannot collide with those the application is handing out
+    private void assignIds(Connection connection, List<TimeEntry> entries) throws SQLException {
+        int blocks = (entries.size() + TimeEntry.ID_ALLOCATION_SIZE - 1) / TimeEntry.ID_ALLOCATION_SIZE + 1;
+        Iterator<TimeEntry> pending = entries.iterator();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval('time_entries_seq') FROM generate_series(1, ?)")) {
+            statement.setInt(1, blocks);
+            try (ResultSet values = statement.executeQuery()) {
+                while (values.next() && pending.hasNext()) {
+                    long hi = values.getLong(1);
+                    for (long id = Math.max(1, hi - TimeEntry.ID_ALLOCATION_SIZE + 1); id <= hi && pending.hasNext(); id++) {
+                        pending.next().setId(id);
+                    }
+                }
+            }
+        }
+    }
+    
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
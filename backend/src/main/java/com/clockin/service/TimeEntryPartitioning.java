@@ -0,0 +1,154 @@
+package com.clockin.service;
+
+import com.clockin.model.TimeEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Monthly range partitions of time_entries on clock_in_time (PostgreSQL only, clockin.partitioning.enabled).
+ * The first start converts the existing table in one transaction, and a daily job keeps partitions
+ * created a few months ahead. PostgreSQL cannot enforce a unique index across partitions, so each
+ * partition carries its own active-session index; across months, the employee row lock every
+ * clock-in takes keeps one open session per employee.
+ */
+@Component
+public class TimeEntryPartitioning {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TimeEntryPartitioning.class);
+    
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    
+    @Value("${clockin.partitioning.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${clockin.partitioning.months-ahead:3}")
+    private int monthsAhead;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private WorkCalendar workCalendar;
+    
+    private Boolean postgres;
+    
+    // Called by DatabaseMigrations while the context starts
+    @Transactional
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        if (!isPostgres()) {
+            logger.warn("Time entry partitioning needs PostgreSQL; leaving time_entries unpartitioned");
+            return;
+        }
+        if (!isPartitioned()) {
+            convert();
+        }
+        createUpcomingPartitions();
+    }
+    
+    @Scheduled(cron = "${clockin.partitioning.cron:0 15 3 * * *}")
+    public void createUpcomingPartitions() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        YearMonth month = YearMonth.now(workCalendar.getZone());
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(month.plusMonths(i));
+        }
+    }
+    
+    // Once a month has been archived its partition is usually empty; dropping it keeps plans small
+    @Transactional
+    public void dropPartitionIfEmpty(YearMonth month) {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        String partition = partitionName(month);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        if (!Boolean.TRUE.equals(exists)) {
+            return;
+        }
+        // Hold off backdated inserts between the check and the drop
+        jdbcTemplate.execute("LOCK TABLE " + partition + " IN ACCESS EXCLUSIVE MODE");
+        Boolean hasRows = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + partition + ")", Boolean.class);
+        if (!Boolean.TRUE.equals(hasRows)) {
+            jdbcTemplate.execute("ALTER TABLE time_entries DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            logger.info("Dropped empty partition {}", partition);
+        }
+    }
+    
+    private void convert() {
+        logger.info("Converting time_entries to monthly partitions");
+        jdbcTemplate.execute("LOCK TABLE time_entries IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute("ALTER TABLE time_entries RENAME TO time_entries_unpartitioned");
+        jdbcTemplate.execute("CREATE TABLE time_entries (LIKE time_entries_unpartitioned INCLUDING DEFAULTS) " +
+                "PARTITION BY RANGE (clock_in_time)");
+        
+        // Rows outside every monthly range (e.g. punches backdated past the first month) land here
+        jdbcTemplate.execute("CREATE TABLE time_entries_default PARTITION OF time_entries DEFAULT");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX " + TimeEntry.ACTIVE_SESSION_CONSTRAINT + "_default " +
+                "ON time_entries_default (active_employee_id)");
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(clock_in_time) FROM time_entries_unpartitioned", LocalDateTime.class);
+        // Every month the copy needs must exist first; the default partition may not overlap them
+        YearMonth last = YearMonth.now(workCalendar.getZone()).plusMonths(monthsAhead);
+        for (YearMonth month = oldest != null ? YearMonth.from(oldest) : YearMonth.now(workCalendar.getZone()); !month.isAfter(last); month = month.plusMonths(1)) {
+            createPartition(month);
+        }
+        
+        jdbcTemplate.execute("INSERT INTO time_entries SELECT * FROM time_entries_unpartitioned");
+        jdbcTemplate.execute("DROP TABLE time_entries_unpartitioned");
+        
+        // Built after the copy, and named as the entity declares them so schema updates leave them alone
+        jdbcTemplate.execute("ALTER TABLE time_entries ADD PRIMARY KEY (id, clock_in_time)");
+        jdbcTemplate.execute("CREATE INDEX idx_time_entries_employee_active ON time_entries (employee_id, is_active)");
+        jdbcTemplate.execute("CREATE INDEX idx_time_entries_active_clock_in ON time_entries (is_active, clock_in_time)");
+        jdbcTemplate.execute("CREATE INDEX idx_time_entries_employee_clock_in ON time_entries (employee_id, clock_in_time)");
+        jdbcTemplate.execute("CREATE INDEX idx_time_entries_tenant_clock_in ON time_entries (tenant_id, clock_in_time, id)");
+        jdbcTemplate.execute("ALTER TABLE time_entries ADD FOREIGN KEY (employee_id) REFERENCES employees (id)");
+    }
+    
+    private void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF time_entries " +
+                "FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + TimeEntry.ACTIVE_SESSION_CONSTRAINT + "_" +
+                month.format(PARTITION_SUFFIX) + " ON " + partition + " (active_employee_id)");
+    }
+    
+    // Checks the table itself, so it stays true if partitioning is switched off afterwards
+    public boolean isPartitioned() {
+        if (!isPostgres()) {
+            return false;
+        }
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT c.relkind = 'p' FROM pg_class c WHERE c.oid = to_regclass('time_entries')", Boolean.class);
+        return Boolean.TRUE.equals(partitioned);
+    }
+    
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+    
+    private static String partitionName(YearMonth month) {
+        return "time_entries_" + month.format(PARTITION_SUFFIX);
+    }
+}
@@ -1,265 +1,663 @@
 package com.clockin.service;
 
+import com.clockin.dto.AdminSummaryResponse;
+import com.clockin.dto.CursorPage;
+import com.clockin.dto.DailyHours;
+import com.clockin.dto.EmployeeDetailResponse;
+import com.clockin.dto.EmployeeOverviewResponse;
+import com.clockin.dto.PunchRequest;
+import com.clockin.dto.PunchResult;
 import com.clockin.dto.TimeEntryResponse;
+import com.clockin.dto.WeekResponse;
+import com.clockin.dto.WeekdayResponse;
+import com.clockin.dto.WeeklyReportResponse;
+import com.clockin.model.Employee;
+import com.clockin.model.EmployeeSummary;
 import com.clockin.model.TimeEntry;
+import com.clockin.repository.EmployeeRepository;
+import com.clockin.repository.EmployeeSummaryRepository;
 import com.clockin.repository.TimeEntryRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class TimeEntryService {
     
+    private static final int DEFAULT_WEEKLY_RANGE_WEEKS = 12;
+    
+    // Stand-ins for an open end of a date range, well inside what every supported database stores
+    private static final LocalDateTime EARLIEST_CLOCK_IN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST_CLOCK_IN = LocalDateTime.of(9999, 1, 1, 0, 0);
+    
+    // Badge readers' clocks drift; tolerate punches slightly ahead of the server
+    private static final Duration MAX_PUNCH_CLOCK_SKEW = Duration.ofMinutes(5);
+    
     @Autowired
     private TimeEntryRepository timeEntryRepository;
     
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private EmployeeSummaryService employeeSummaryService;
+    
+    @Autowired
+    private ActiveSessionRegistry activeSessionRegistry;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private WorkCalendar workCalendar;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private ClockinMetrics clockinMetrics;
+    
+    @Autowired
+    private PunchJournal punchJournal;
+    
+    @Autowired
+    private PayrollService payrollService;
+    
+    @Autowired
+    private TimeEntryArchive timeEntryArchive;
+    
     public TimeEntryResponse clockIn(String firstName, String lastName) {
-        // Check if employee is already clocked in
-        Optional<TimeEntry> activeEntry = timeEntryRepository.findByFirstNameAndLastNameAndIsActiveTrue(firstName, lastName);
-        if (activeEntry.isPresent()) {
-            throw new RuntimeException("Employee is already clocked in");
+        if (punchJournal.isEnabled()) {
+            return punchJournal.clockIn(firstName, lastName);
         }
         
-        TimeEntry timeEntry = new TimeEntry(firstName, lastName);
-        TimeEntry savedEntry = timeEntryRepository.save(timeEntry);
+        Employee employee = employeeService.findOrCreateEmployee(firstName, lastName);
         
-        return convertToResponse(savedEntry);
+        // Only the check under the employee's row lock decides: the session registry is updated after a
+        // clock-out commits, so it can still list someone who has just clocked out. The lock serializes
+        // racing clock-ins, and the active-session constraint backs it up.
+        try {
+            return transactionTemplate.execute(status -> {
+                employeeRepository.lockById(employee.getId());
+                if (timeEntryRepository.findActiveEntryId(employee.getId()).isPresent()) {
+                    throw new ClockConflictException("Employee is already clocked in");
+                }
+                TimeEntry savedEntry = timeEntryRepository.saveAndFlush(new TimeEntry(employee, workCalendar.now()));
+                employeeSummaryService.recordClockIn(savedEntry);
+                eventPublisher.publishEvent(new ClockEvent(ClockEvent.Type.CLOCK_IN, savedEntry));
+                return convertToResponse(savedEntry);
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (isActiveSessionConflict(e)) {
+                throw new ClockConflictException("Employee is already clocked in", e);
+            }
+            throw e;
+        }
     }
     
     public TimeEntryResponse clockOut(String firstName, String lastName) {
-        Optional<TimeEntry> activeEntry = timeEntryRepository.findByFirstNameAndLastNameAndIsActiveTrue(firstName, lastName);
+        if (punchJournal.isEnabled()) {
+            return punchJournal.clockOut(firstName, lastName);
+        }
+        return transactionTemplate.execute(status -> clockOutInTransaction(firstName, lastName));
+    }
+    
+    private TimeEntryResponse clockOutInTransaction(String firstName, String lastName) {
+        // Row lock on the open entry so concurrent clock-outs cannot both close it
+        Optional<TimeEntry> activeEntry = findActiveEntryId(firstName, lastName)
+                .flatMap(timeEntryRepository::findByIdForUpdate)
+                .filter(TimeEntry::getIsActive);
         if (activeEntry.isEmpty()) {
             throw new RuntimeException("Employee is not clocked in");
         }
         
         TimeEntry timeEntry = activeEntry.get();
-        timeEntry.setClockOutTime(LocalDateTime.now());
+        closeEntry(timeEntry, workCalendar.now());
+        
+        TimeEntry savedEntry = timeEntryRepository.save(timeEntry);
+        employeeSummaryService.recordClockOut(savedEntry);
+        eventPublisher.publishEvent(new ClockEvent(ClockEvent.Type.CLOCK_OUT, savedEntry));
+        return convertToResponse(savedEntry);
+    }
+    
+    // Replays buffered punches in order inside one transaction. Punches that do not fit the
+    // employee's state at that point are rejected individually; the rest are written in JDBC batches.
+    public List<PunchResult> applyPunches(List<PunchRequest> punches) {
+        Set<EmployeeName> names = new LinkedHashSet<>();
+        for (PunchRequest punch : punches) {
+            if (punch != null && isPresent(punch.getFirstName()) && isPresent(punch.getLastName())) {
+                names.add(new EmployeeName(punch.getFirstName(), punch.getLastName()));
+            }
+        }
+        Map<EmployeeName, Employee> employees = employeeService.findOrCreateEmployees(names);
+        
+        try {
+            return transactionTemplate.execute(status -> applyPunchesInTransaction(punches, employees));
+        } catch (DataIntegrityViolationException e) {
+            if (isActiveSessionConflict(e)) {
+                throw new ClockConflictException("Batch conflicts with a concurrent clock-in, retry it", e);
+            }
+            throw e;
+        }
+    }
+    
+    private List<PunchResult> applyPunchesInTransaction(List<PunchRequest> punches, Map<EmployeeName, Employee> employees) {
+        // Lock every involved employee, as a single clock-in does, then their open entries; newest first so
+        // legacy duplicates resolve to the latest
+        Map<Long, TimeEntry> openEntries = new HashMap<>();
+        List<Long> employeeIds = employees.values().stream().map(Employee::getId).collect(Collectors.toList());
+        if (!employeeIds.isEmpty()) {
+            employeeRepository.lockByIds(employeeIds);
+            for (TimeEntry entry : timeEntryRepository.findActiveByEmployeeIdsForUpdate(employeeIds)) {
+                openEntries.putIfAbsent(entry.getEmployee().getId(), entry);
+            }
+        }
+        
+        LocalDateTime latestAllowed = workCalendar.now().plus(MAX_PUNCH_CLOCK_SKEW);
+        LocalDate closedThrough = payrollService.getClosedThrough().orElse(null);
+        List<TimeEntry> createdEntries = new ArrayList<>();
+        List<TimeEntry> closedEntries = new ArrayList<>();
+        TimeEntry[] appliedEntries = new TimeEntry[punches.size()];
+        // Taken as each punch is applied: a later punch in the batch may change the same entry
+        TimeEntryResponse[] appliedResponses = new TimeEntryResponse[punches.size()];
+        ClockEvent.Type[] appliedTypes = new ClockEvent.Type[punches.size()];
+        String[] errors = new String[punches.size()];
+        
+        for (int i = 0; i < punches.size(); i++) {
+            PunchRequest punch = punches.get(i);
+            if (punch == null || !isPresent(punch.getFirstName()) || !isPresent(punch.getLastName())) {
+                errors[i] = "First name and last name are required";
+                continue;
+            }
+            LocalDateTime timestamp = punch.getTimestamp() != null ? punch.getTimestamp() : workCalendar.now();
+            if (timestamp.isAfter(latestAllowed)) {
+                errors[i] = "Punch timestamp is in the future";
+                continue;
+            }
+            if (closedThrough != null && !timestamp.toLocalDate().isAfter(closedThrough)) {
+                errors[i] = "Punch falls in a closed pay period";
+                continue;
+            }
+            
+            Employee employee = employees.get(new EmployeeName(punch.getFirstName(), punch.getLastName()));
+            TimeEntry openEntry = openEntries.get(employee.getId());
+            
+            if (PunchRequest.CLOCK_IN.equals(punch.getType())) {
+                if (openEntry != null) {
+                    errors[i] = "Employee is already clocked in";
+                    continue;
+                }
+                TimeEntry entry = new TimeEntry(employee);
+                entry.setClockInTime(timestamp);
+                createdEntries.add(entry);
+                openEntries.put(employee.getId(), entry);
+                appliedEntries[i] = entry;
+                appliedResponses[i] = convertToResponse(entry);
+                appliedTypes[i] = ClockEvent.Type.CLOCK_IN;
+            } else if (PunchRequest.CLOCK_OUT.equals(punch.getType())) {
+                if (openEntry == null) {
+                    errors[i] = "Employee is not clocked in";
+                    continue;
+                }
+                if (timestamp.isBefore(openEntry.getClockInTime())) {
+                    errors[i] = "Clock-out time is before clock-in time";
+                    continue;
+                }
+                closeEntry(openEntry, timestamp);
+                openEntries.remove(employee.getId());
+                if (openEntry.getId() != null) {
+                    closedEntries.add(openEntry);
+                }
+                appliedEntries[i] = openEntry;
+                appliedResponses[i] = convertToResponse(openEntry);
+                appliedTypes[i] = ClockEvent.Type.CLOCK_OUT;
+            } else {
+                errors[i] = "Punch type must be " + PunchRequest.CLOCK_IN + " or " + PunchRequest.CLOCK_OUT;
+            }
+        }
+        
+        // Close existing rows before inserting new ones: Hibernate flushes inserts ahead of updates,
+        // which would briefly give an employee two open rows and trip the active-session constraint
+        timeEntryRepository.saveAllAndFlush(closedEntries);
+        timeEntryRepository.saveAllAndFlush(createdEntries);
+        employeeSummaryService.recordBatch(createdEntries, closedEntries);
+        
+        List<PunchResult> results = new ArrayList<>(punches.size());
+        for (int i = 0; i < punches.size(); i++) {
+            if (appliedEntries[i] == null) {
+                results.add(new PunchResult(i, PunchResult.REJECTED, errors[i], null));
+            } else {
+                eventPublisher.publishEvent(new ClockEvent(appliedTypes[i], appliedEntries[i]));
+                // New entries only get their id at flush
+                appliedResponses[i].setId(appliedEntries[i].getId());
+                results.add(new PunchResult(i, PunchResult.ACCEPTED, null, appliedResponses[i]));
+            }
+        }
+        return results;
+    }
+    
+    private void closeEntry(TimeEntry timeEntry, LocalDateTime clockOutTime) {
+        timeEntry.setClockOutTime(clockOutTime);
         timeEntry.setIsActive(false);
+        timeEntry.setActiveEmployeeId(null);
         
         // Calculate total hours
         if (timeEntry.getClockInTime() != null && timeEntry.getClockOutTime() != null) {
-            double hours = ChronoUnit.MINUTES.between(timeEntry.getClockInTime(), timeEntry.getClockOutTime()) / 60.0;
-            timeEntry.setTotalHours(Math.round(hours * 100.0) / 100.0); // Round to 2 decimal places
+            timeEntry.setTotalHours(hoursBetween(timeEntry.getClockInTime(), timeEntry.getClockOutTime()));
         }
-        
-        TimeEntry savedEntry = timeEntryRepository.save(timeEntry);
-        return convertToResponse(savedEntry);
     }
     
-    public List<TimeEntryResponse> getEmployeeHistory(String firstName, String lastName) {
-        List<TimeEntry> entries = timeEntryRepository.findByFirstNameAndLastNameOrderByClockInTimeDesc(firstName, lastName);
-        return entries.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    static double hoursBetween(LocalDateTime clockInTime, LocalDateTime clockOutTime) {
+        double hours = ChronoUnit.MINUTES.between(clockInTime, clockOutTime) / 60.0;
+        return Math.round(hours * 100.0) / 100.0; // Round to 2 decimal places
     }
     
-    public TimeEntryResponse getCurrentStatus(String firstName, String lastName) {
-        Optional<TimeEntry> activeEntry = timeEntryRepository.findByFirstNameAndLastNameAndIsActiveTrue(firstName, lastName);
-        return activeEntry.map(this::convertToResponse).orElse(null);
+    private static boolean isPresent(String value) {
+        return value != null && !value.isBlank();
     }
     
-    public List<Map<String, Object>> getAllEmployeesData() {
-        List<TimeEntry> allEntries = timeEntryRepository.findAll();
+    // from/to are inclusive clock-in dates and either may be left open; with summaryOnly the totals
+    // are aggregated in the database and no entries are loaded
+    public EmployeeDetailResponse getEmployeeDetail(String firstName, String lastName, LocalDate from, LocalDate to,
+                                                    boolean summaryOnly) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        boolean bounded = from != null || to != null;
+        LocalDateTime startTime = from != null ? from.atStartOfDay() : EARLIEST_CLOCK_IN;
+        LocalDateTime endTime = to != null ? to.plusDays(1).atStartOfDay() : LATEST_CLOCK_IN;
+        Optional<Employee> employee = employeeService.findEmployee(firstName, lastName);
         
-        // Group by employee
-        Map<String, List<TimeEntry>> employeeGroups = allEntries.stream()
-                .collect(Collectors.groupingBy(entry -> entry.getFirstName() + " " + entry.getLastName()));
+        EmployeeDetailResponse response = new EmployeeDetailResponse();
+        response.setFirstName(firstName);
+        response.setLastName(lastName);
+        response.setFrom(from);
+        response.setTo(to);
         
-        List<Map<String, Object>> result = new ArrayList<>();
+        if (summaryOnly && !bounded) {
+            // The whole history is already rolled up in the employee's summary row
+            Optional<EmployeeSummary> summary = employee.flatMap(e -> employeeSummaryService.findSummary(e.getId()));
+            response.setTotalHours(summary.map(s -> Math.round(s.getTotalHours() * 100.0) / 100.0).orElse(0.0));
+            response.setTotalEntries(summary.map(EmployeeSummary::getTotalEntries).orElse(0L));
+            response.setActiveEntries(summary.map(EmployeeSummary::getActiveEntries).orElse(0L));
+            clockinMetrics.recordRowsScanned("employee-detail-summary", summary.isPresent() ? 1 : 0);
+            return response;
+        }
+        if (summaryOnly) {
+            Optional<TimeEntryRepository.RangeTotals> totals = employee
+                    .map(e -> timeEntryRepository.summarizeRange(e.getId(), startTime, endTime));
+            response.setTotalHours(totals.map(t -> Math.round(t.getTotalHours() * 100.0) / 100.0).orElse(0.0));
+            response.setTotalEntries(totals.map(TimeEntryRepository.RangeTotals::getTotalEntries).orElse(0L));
+            response.setActiveEntries(totals.map(TimeEntryRepository.RangeTotals::getActiveEntries).orElse(0L));
+            clockinMetrics.recordRowsScanned("employee-detail-summary", response.getTotalEntries());
+            return response;
+        }
         
-        for (Map.Entry<String, List<TimeEntry>> group : employeeGroups.entrySet()) {
-            String employeeName = group.getKey();
-            List<TimeEntry> entries = group.getValue();
-            
-            // Calculate statistics
-            double totalHours = entries.stream()
-                    .filter(entry -> entry.getTotalHours() != null)
-                    .mapToDouble(TimeEntry::getTotalHours)
-                    .sum();
-            
-            long totalEntries = entries.size();
-            long activeEntries = entries.stream()
-                    .filter(TimeEntry::getIsActive)
-                    .count();
-            
-            // Get latest entry
-            TimeEntry latestEntry = entries.stream()
-                    .max(Comparator.comparing(TimeEntry::getClockInTime))
-                    .orElse(null);
-            
-            Map<String, Object> employeeData = new HashMap<>();
-            employeeData.put("employeeName", employeeName);
-            employeeData.put("firstName", entries.get(0).getFirstName());
-            employeeData.put("lastName", entries.get(0).getLastName());
-            employeeData.put("totalHours", Math.round(totalHours * 100.0) / 100.0);
-            employeeData.put("totalEntries", totalEntries);
-            employeeData.put("activeEntries", activeEntries);
-            employeeData.put("isCurrentlyActive", activeEntries > 0);
-            employeeData.put("latestEntry", latestEntry != null ? convertToResponse(latestEntry) : null);
-            employeeData.put("entries", entries.stream().map(this::convertToResponse).collect(Collectors.toList()));
-            
-            result.add(employeeData);
+        List<TimeEntry> entries = employee
+                .map(e -> bounded
+                        ? timeEntryRepository.findByEmployeeAndDateRange(e.getId(), startTime, endTime)
+                        : timeEntryRepository.findByEmployeeIdOrderByClockInTimeDesc(e.getId()))
+                .orElse(Collections.emptyList());
+        
+        double totalHours = 0.0;
+        long activeEntries = 0;
+        List<TimeEntryResponse> responses = new ArrayList<>(entries.size());
+        for (TimeEntry entry : entries) {
+            if (entry.getTotalHours() != null) {
+                totalHours += entry.getTotalHours();
+            }
+            if (Boolean.TRUE.equals(entry.getIsActive())) {
+                activeEntries++;
+            }
+            responses.add(convertToResponse(entry));
         }
         
-        // Sort by employee name
-        result.sort((a, b) -> ((String) a.get("employeeName")).compareTo((String) b.get("employeeName")));
+        response.setEntries(responses);
+        response.setTotalHours(Math.round(totalHours * 100.0) / 100.0);
+        response.setTotalEntries((long) entries.size());
+        response.setActiveEntries(activeEntries);
         
-        return result;
+        clockinMetrics.recordRowsScanned("employee-detail", entries.size());
+        return response;
     }
     
-    public Map<String, Object> getAdminSummary() {
-        List<TimeEntry> allEntries = timeEntryRepository.findAll();
-        
-        long totalEmployees = allEntries.stream()
-                .map(entry -> entry.getFirstName() + " " + entry.getLastName())
-                .distinct()
-                .count();
+    public CursorPage<TimeEntryResponse> getEmployeeHistoryPage(String firstName, String lastName,
+                                                                String cursor, Integer limit) {
+        int pageSize = PageCursors.clampPageSize(limit);
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
         
-        long currentlyActive = allEntries.stream()
-                .filter(TimeEntry::getIsActive)
-                .count();
+        Optional<Employee> employee = employeeService.findEmployee(firstName, lastName);
+        if (employee.isEmpty()) {
+            return new CursorPage<>(Collections.emptyList(), null);
+        }
+        Long employeeId = employee.get().getId();
         
-        double totalHours = allEntries.stream()
-                .filter(entry -> entry.getTotalHours() != null)
-                .mapToDouble(TimeEntry::getTotalHours)
-                .sum();
+        PageCursors.EntryKey after = cursor == null || cursor.isBlank() ? null : PageCursors.decodeEntry(cursor);
+        List<TimeEntry> entries;
+        if (after == null) {
+            entries = timeEntryRepository.findByEmployeeIdOrderByClockInTimeDescIdDesc(employeeId, pageable);
+        } else {
+            entries = timeEntryRepository.findPageAfter(employeeId, after.clockInTime(), after.id(), pageable);
+        }
+        List<TimeEntryResponse> page = entries.stream().map(this::convertToResponse).collect(Collectors.toList());
         
-        long totalEntries = allEntries.size();
+        // Archived entries are all older than archivedBefore; merge them in once the page reaches back that far,
+        // for employees the archive holds anything of
+        Optional<LocalDateTime> archivedBefore = timeEntryArchive.getArchivedBefore();
+        if (archivedBefore.isPresent() && timeEntryArchive.hasEntries(employeeId) && (page.size() <= pageSize
+                || page.get(page.size() - 1).getClockInTime().isBefore(archivedBefore.get()))) {
+            Map<Long, TimeEntryResponse> merged = new HashMap<>();
+            for (TimeEntryResponse entry : timeEntryArchive.findPage(employeeId, after, pageSize + 1)) {
+                merged.put(entry.getId(), entry);
+            }
+            // A row can sit in both places if archiving stopped between writing and deleting it
+            for (TimeEntryResponse entry : page) {
+                merged.put(entry.getId(), entry);
+            }
+            page = new ArrayList<>(merged.values());
+            page.sort(TimeEntryArchive.NEWEST_FIRST);
+        }
         
-        Map<String, Object> summary = new HashMap<>();
-        summary.put("totalEmployees", totalEmployees);
-        summary.put("currentlyActive", currentlyActive);
-        summary.put("totalHours", Math.round(totalHours * 100.0) / 100.0);
-        summary.put("totalEntries", totalEntries);
+        String nextCursor = null;
+        if (page.size() > pageSize) {
+            page = page.subList(0, pageSize);
+            TimeEntryResponse last = page.get(pageSize - 1);
+            nextCursor = PageCursors.encodeEntry(last.getClockInTime(), last.getId());
+        }
         
-        return summary;
+        return new CursorPage<>(page, nextCursor);
+    }
+    
+    public TimeEntryResponse getCurrentStatus(String firstName, String lastName) {
+        if (punchJournal.isEnabled()) {
+            return punchJournal.findOpenEntry(firstName, lastName).orElse(null);
+        }
+        if (activeSessionRegistry.isLoaded()) {
+            return activeSessionRegistry.find(firstName, lastName)
+                    .map(session -> new TimeEntryResponse(session.entryId(), session.firstName(), session.lastName(),
+                            session.clockInTime(), null, null, true))
+                    .orElse(null);
+        }
+        return findActiveEntryId(firstName, lastName)
+                .flatMap(timeEntryRepository::findById)
+                .map(this::convertToResponse)
+                .orElse(null);
+    }
+    
+    // The registry knows which entry is open; before it has loaded, ask the database
+    private Optional<Long> findActiveEntryId(String firstName, String lastName) {
+        if (activeSessionRegistry.isLoaded()) {
+            return activeSessionRegistry.find(firstName, lastName).map(ActiveSessionRegistry.ActiveSession::entryId);
+        }
+        return employeeService.findEmployee(firstName, lastName)
+                .flatMap(employee -> timeEntryRepository.findActiveEntryId(employee.getId()));
+    }
+    
+    private boolean isActiveSessionConflict(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(TimeEntry.ACTIVE_SESSION_CONSTRAINT);
     }
     
-    public Map<String, Object> getEmployeeWeeklyData(String firstName, String lastName) {
-        List<TimeEntry> employeeEntries = timeEntryRepository.findByFirstNameAndLastNameOrderByClockInTimeDesc(firstName, lastName);
+    @Cacheable(cacheNames = AdminViewCache.EMPLOYEE_PAGES, sync = true,
+               key = "{" + AdminViewCache.TENANT_KEY + ", #cursor, #limit, #includeEntries, #entriesLimit, "
+                       + AdminViewCache.VIEW_EPOCH + "}")
+    public CursorPage<EmployeeOverviewResponse> getAllEmployeesData(String cursor, Integer limit,
+                                                                    boolean includeEntries, Integer entriesLimit) {
+        int pageSize = PageCursors.clampPageSize(limit);
+        
+        List<EmployeeSummary> summaries;
+        if (cursor == null || cursor.isBlank()) {
+            summaries = employeeSummaryService.getSummaryPage(null, null, pageSize);
+        } else {
+            String[] after = PageCursors.decode(cursor, 2);
+            summaries = employeeSummaryService.getSummaryPage(after[0], after[1], pageSize);
+        }
         
-        Map<String, Object> result = new HashMap<>();
-        result.put("firstName", firstName);
-        result.put("lastName", lastName);
-        result.put("employeeName", firstName + " " + lastName);
+        long rowsScanned = summaries.size();
+        String nextCursor = null;
+        if (summaries.size() > pageSize) {
+            summaries = summaries.subList(0, pageSize);
+            EmployeeSummary last = summaries.get(pageSize - 1);
+            nextCursor = PageCursors.encode(last.getFirstName(), last.getLastName());
+        }
         
-        // Group entries by week
-        Map<String, List<TimeEntry>> weeklyGroups = new HashMap<>();
-        Map<String, Double> weeklyTotals = new HashMap<>();
+        List<EmployeeOverviewResponse> result = convertToOverviews(summaries);
+        rowsScanned += result.stream().filter(employee -> employee.getLatestEntry() != null).count();
         
-        for (TimeEntry entry : employeeEntries) {
-            if (entry.getClockInTime() != null) {
-                String weekKey = getWeekKey(entry.getClockInTime());
-                weeklyGroups.computeIfAbsent(weekKey, k -> new ArrayList<>()).add(entry);
-                
-                if (entry.getTotalHours() != null) {
-                    weeklyTotals.merge(weekKey, entry.getTotalHours(), Double::sum);
-                }
+        // Nested entries are opt-in and capped to one history page per employee
+        if (includeEntries) {
+            for (EmployeeOverviewResponse employeeData : result) {
+                CursorPage<TimeEntryResponse> entries = getEmployeeHistoryPage(
+                        employeeData.getFirstName(), employeeData.getLastName(), null, entriesLimit);
+                employeeData.setEntries(entries.getItems());
+                employeeData.setEntriesNextCursor(entries.getNextCursor());
+                rowsScanned += entries.getItems().size();
             }
         }
         
-        // Convert to weekly data structure
-        List<Map<String, Object>> weeklyData = new ArrayList<>();
-        for (Map.Entry<String, List<TimeEntry>> weekEntry : weeklyGroups.entrySet()) {
-            String weekKey = weekEntry.getKey();
-            List<TimeEntry> weekEntries = weekEntry.getValue();
-            
-            Map<String, Object> weekData = new HashMap<>();
-            weekData.put("weekKey", weekKey);
-            weekData.put("weekLabel", getWeekLabel(weekKey));
-            weekData.put("totalHours", Math.round(weeklyTotals.getOrDefault(weekKey, 0.0) * 100.0) / 100.0);
-            weekData.put("entryCount", weekEntries.size());
+        clockinMetrics.recordRowsScanned("all-employees", rowsScanned);
+        return new CursorPage<>(result, nextCursor);
+    }
+    
+    // Writes every employee with their full history straight from a database cursor, one row at a time,
+    // so memory stays flat however many employees and entries there are
+    @Transactional(readOnly = true)
+    public void exportAllEmployeesData(OutputStream outputStream) throws IOException {
+        try (Stream<TimeEntryResponse> entries = timeEntryRepository.streamAllGroupedByEmployee();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
             
-            // Group by weekday
-            Map<String, List<TimeEntry>> weekdayGroups = new HashMap<>();
-            for (TimeEntry entry : weekEntries) {
-                String weekday = getWeekday(entry.getClockInTime());
-                weekdayGroups.computeIfAbsent(weekday, k -> new ArrayList<>()).add(entry);
-            }
+            EmployeeName current = null;
+            long rowsScanned = 0;
+            double totalHours = 0.0;
+            long totalEntries = 0;
+            long activeEntries = 0;
             
-            // Convert weekday groups to response format
-            List<Map<String, Object>> weekdayData = new ArrayList<>();
-            for (Map.Entry<String, List<TimeEntry>> weekdayEntry : weekdayGroups.entrySet()) {
-                String weekday = weekdayEntry.getKey();
-                List<TimeEntry> dayEntries = weekdayEntry.getValue();
-                
-                double dayTotalHours = dayEntries.stream()
-                        .filter(entry -> entry.getTotalHours() != null)
-                        .mapToDouble(TimeEntry::getTotalHours)
-                        .sum();
-                
-                Map<String, Object> dayData = new HashMap<>();
-                dayData.put("weekday", weekday);
-                dayData.put("totalHours", Math.round(dayTotalHours * 100.0) / 100.0);
-                dayData.put("entries", dayEntries.stream().map(this::convertToResponse).collect(Collectors.toList()));
+            for (Iterator<TimeEntryResponse> it = entries.iterator(); it.hasNext(); ) {
+                TimeEntryResponse entry = it.next();
+                EmployeeName name = new EmployeeName(entry.getFirstName(), entry.getLastName());
+                if (!name.equals(current)) {
+                    if (current != null) {
+                        writeExportTotals(generator, totalHours, totalEntries, activeEntries);
+                    }
+                    current = name;
+                    totalHours = 0.0;
+                    totalEntries = 0;
+                    activeEntries = 0;
+                    
+                    generator.writeStartObject();
+                    generator.writeStringField("employeeName", name.firstName() + " " + name.lastName());
+                    generator.writeStringField("firstName", name.firstName());
+                    generator.writeStringField("lastName", name.lastName());
+                    generator.writeArrayFieldStart("entries");
+                }
                 
-                weekdayData.add(dayData);
+                generator.writeObject(entry);
+                rowsScanned++;
+                if (entry.getTotalHours() != null) {
+                    totalHours += entry.getTotalHours();
+                }
+                totalEntries++;
+                if (Boolean.TRUE.equals(entry.getIsActive())) {
+                    activeEntries++;
+                }
             }
             
-            // Sort by weekday (Monday to Sunday)
-            weekdayData.sort((a, b) -> getWeekdayOrder((String) a.get("weekday")) - getWeekdayOrder((String) b.get("weekday")));
-            
-            weekData.put("weekdays", weekdayData);
-            weeklyData.add(weekData);
+            if (current != null) {
+                writeExportTotals(generator, totalHours, totalEntries, activeEntries);
+            }
+            generator.writeEndArray();
+            clockinMetrics.recordRowsScanned("export", rowsScanned);
         }
-        
-        // Sort by week (most recent first)
-        weeklyData.sort((a, b) -> ((String) b.get("weekKey")).compareTo((String) a.get("weekKey")));
-        
-        result.put("weeklyData", weeklyData);
-        
-        // Calculate overall totals
-        double totalHours = employeeEntries.stream()
-                .filter(entry -> entry.getTotalHours() != null)
-                .mapToDouble(TimeEntry::getTotalHours)
-                .sum();
-        
-        result.put("totalHours", Math.round(totalHours * 100.0) / 100.0);
-        result.put("totalEntries", employeeEntries.size());
-        
-        return result;
     }
     
-    private String getWeekKey(LocalDateTime dateTime) {
-        // Get the start of the week (Monday)
-        LocalDateTime startOfWeek = dateTime.toLocalDate()
-                .atStartOfDay()
-                .with(java.time.DayOfWeek.MONDAY);
-        
-        return startOfWeek.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+    private void writeExportTotals(JsonGenerator generator, double totalHours, long totalEntries,
+                                   long activeEntries) throws IOException {
+        generator.writeEndArray();
+        generator.writeNumberField("totalHours", Math.round(totalHours * 100.0) / 100.0);
+        generator.writeNumberField("totalEntries", totalEntries);
+        generator.writeNumberField("activeEntries", activeEntries);
+        generator.writeEndObject();
     }
     
-    private String getWeekLabel(String weekKey) {
-        LocalDateTime startOfWeek = LocalDateTime.parse(weekKey + "T00:00:00");
-        LocalDateTime endOfWeek = startOfWeek.plusDays(6);
-        
-        return startOfWeek.format(java.time.format.DateTimeFormatter.ofPattern("MMM dd")) + 
-               " - " + 
-               endOfWeek.format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy"));
+    // Current dashboard rows for the given employees, as all-employees would show them
+    public List<EmployeeOverviewResponse> getEmployeeOverviews(Collection<Long> employeeIds) {
+        List<EmployeeSummary> summaries = employeeSummaryService.findSummaries(employeeIds);
+        clockinMetrics.recordRowsScanned("employee-updates", summaries.size());
+        return convertToOverviews(summaries);
     }
     
-    private String getWeekday(LocalDateTime dateTime) {
-        return dateTime.getDayOfWeek().getDisplayName(java.time.format.TextStyle.FULL, java.util.Locale.ENGLISH);
+    private List<EmployeeOverviewResponse> convertToOverviews(List<EmployeeSummary> summaries) {
+        // Resolve the latest entries with a single lookup by id
+        List<Long> latestEntryIds = summaries.stream()
+                .map(EmployeeSummary::getLatestEntryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Map<Long, TimeEntry> latestEntries = timeEntryRepository.findAllById(latestEntryIds).stream()
+                .collect(Collectors.toMap(TimeEntry::getId, entry -> entry));
+        
+        List<EmployeeOverviewResponse> result = new ArrayList<>();
+        for (EmployeeSummary summary : summaries) {
+            TimeEntry latestEntry = latestEntries.get(summary.getLatestEntryId());
+            
+            EmployeeOverviewResponse employeeData = new EmployeeOverviewResponse();
+            employeeData.setEmployeeName(summary.getFirstName() + " " + summary.getLastName());
+            employeeData.setFirstName(summary.getFirstName());
+            employeeData.setLastName(summary.getLastName());
+            employeeData.setTotalHours(Math.round(summary.getTotalHours() * 100.0) / 100.0);
+            employeeData.setTotalEntries(summary.getTotalEntries());
+            employeeData.setActiveEntries(summary.getActiveEntries());
+            employeeData.setIsCurrentlyActive(summary.isCurrentlyActive());
+            employeeData.setLatestEntry(latestEntry != null ? convertToResponse(latestEntry) : null);
+            result.add(employeeData);
+        }
+        return result;
     }
     
-    private int getWeekdayOrder(String weekday) {
-        Map<String, Integer> weekdayOrder = Map.of(
-            "Monday", 1,
-            "Tuesday", 2,
-            "Wednesday", 3,
-            "Thursday", 4,
-            "Friday", 5,
-            "Saturday", 6,
-            "Sunday", 7
+    @Cacheable(cacheNames = AdminViewCache.SUMMARY, sync = true,
+               key = "{" + AdminViewCache.TENANT_KEY + ", " + AdminViewCache.VIEW_EPOCH + "}")
+    public AdminSummaryResponse getAdminSummary() {
+        EmployeeSummaryRepository.Totals totals = employeeSummaryService.getTotals();
+        
+        // The totals aggregate reads one rollup row per employee
+        clockinMetrics.recordRowsScanned("summary", totals.getTotalEmployees());
+        return new AdminSummaryResponse(
+                totals.getTotalEmployees(),
+                totals.getCurrentlyActive(),
+                Math.round(totals.getTotalHours() * 100.0) / 100.0,
+                totals.getTotalEntries()
         );
-        return weekdayOrder.getOrDefault(weekday, 0);
     }
     
-    private TimeEntryResponse convertToResponse(TimeEntry timeEntry) {
+    @Cacheable(cacheNames = AdminViewCache.WEEKLY_REPORTS, sync = true,
+               key = "{" + AdminViewCache.TENANT_KEY + ", #firstName, #lastName, #from, #to, "
+                       + AdminViewCache.REPORT_EPOCH + "}")
+    public WeeklyReportResponse getEmployeeWeeklyData(String firstName, String lastName, LocalDate from, LocalDate to) {
+        // Default to the most recent weeks, ending with the current one
+        LocalDate rangeEnd = to != null ? to : workCalendar.weekEndOf(workCalendar.today());
+        LocalDate rangeStart = from != null ? from : rangeEnd.minusWeeks(DEFAULT_WEEKLY_RANGE_WEEKS).plusDays(1);
+        if (rangeStart.isAfter(rangeEnd)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        LocalDateTime startTime = rangeStart.atStartOfDay();
+        LocalDateTime endTime = rangeEnd.plusDays(1).atStartOfDay();
+        
+        Optional<Employee> employee = employeeService.findEmployee(firstName, lastName);
+        List<DailyHours> dailyHours = employee
+                .map(e -> timeEntryRepository.sumHoursByDay(e.getId(), startTime, endTime))
+                .orElse(Collections.emptyList());
+        List<TimeEntry> rangeEntries = employee
+                .map(e -> timeEntryRepository.findByEmployeeAndDateRange(e.getId(), startTime, endTime))
+                .orElse(Collections.emptyList());
+        clockinMetrics.recordRowsScanned("weekly", dailyHours.size() + rangeEntries.size());
+        
+        WeeklyReportResponse result = new WeeklyReportResponse();
+        result.setFirstName(firstName);
+        result.setLastName(lastName);
+        result.setEmployeeName(firstName + " " + lastName);
+        result.setFrom(rangeStart);
+        result.setTo(rangeEnd);
+        
+        // Days and entries both arrive newest first, so one pass hands each day its entries and
+        // each week its days; weekdays land in an array slot by their position in the week
+        List<WeekResponse> weeklyData = new ArrayList<>();
+        int dayIndex = 0;
+        int entryIndex = 0;
+        while (dayIndex < dailyHours.size()) {
+            long weekKey = workCalendar.weekKey(dailyHours.get(dayIndex).getDate());
+            WeekdayResponse[] weekdays = new WeekdayResponse[WorkCalendar.DAYS_PER_WEEK];
+            double weekTotalHours = 0.0;
+            long weekEntryCount = 0;
+            for (; dayIndex < dailyHours.size(); dayIndex++) {
+                DailyHours day = dailyHours.get(dayIndex);
+                if (workCalendar.weekKey(day.getDate()) != weekKey) {
+                    break;
+                }
+                List<TimeEntryResponse> dayEntries = new ArrayList<>();
+                while (entryIndex < rangeEntries.size()
+                        && !rangeEntries.get(entryIndex).getClockInTime().toLocalDate().isBefore(day.getDate())) {
+                    dayEntries.add(convertToResponse(rangeEntries.get(entryIndex++)));
+                }
+                weekTotalHours += day.getTotalHours();
+                weekEntryCount += day.getEntryCount();
+                
+                int weekday = workCalendar.weekdayIndex(day.getDate());
+                weekdays[weekday] = new WeekdayResponse(
+                        workCalendar.weekdayName(weekday),
+                        Math.round(day.getTotalHours() * 100.0) / 100.0,
+                        dayEntries);
+            }
+            
+            List<WeekdayResponse> weekdayData = new ArrayList<>(WorkCalendar.DAYS_PER_WEEK);
+            for (WeekdayResponse weekday : weekdays) {
+                if (weekday != null) {
+                    weekdayData.add(weekday);
+                }
+            }
+            weeklyData.add(new WeekResponse(
+                    workCalendar.weekStartOf(weekKey).toString(),
+                    workCalendar.weekLabel(weekKey),
+                    Math.round(weekTotalHours * 100.0) / 100.0,
+                    weekEntryCount,
+                    weekdayData));
+        }
+        
+        result.setWeeklyData(weeklyData);
+        
+        // Overall totals come from the rollup rather than the full history
+        Optional<EmployeeSummary> summary = employee.flatMap(e -> employeeSummaryService.findSummary(e.getId()));
+        double totalHours = summary.map(EmployeeSummary::getTotalHours).orElse(0.0);
+        result.setTotalHours(Math.round(totalHours * 100.0) / 100.0);
+        result.setTotalEntries(summary.map(EmployeeSummary::getTotalEntries).orElse(0L));
+        
+        return result;
+    }
+    
+    TimeEntryResponse convertToResponse(TimeEntry timeEntry) {
         return new TimeEntryResponse(
                 timeEntry.getId(),
                 timeEntry.getFirstName(),
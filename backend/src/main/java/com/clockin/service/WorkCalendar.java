@@ -0,0 +1,90 @@
+package com.clockin.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * The calendar punches are recorded and reported in: the zone "now" is read in, and the day
+ * weeks start on. Weeks are keyed by integers counted from the epoch, so bucketing a history
+ * takes a division per day and no string work until a label is needed.
+ */
+@Component
+public class WorkCalendar {
+    
+    public static final int DAYS_PER_WEEK = 7;
+    
+    private static final DateTimeFormatter WEEK_LABEL_START = DateTimeFormatter.ofPattern("MMM dd", Locale.ENGLISH);
+    private static final DateTimeFormatter WEEK_LABEL_END = DateTimeFormatter.ofPattern("MMM dd, yyyy", Locale.ENGLISH);
+    
+    private final ZoneId zone;
+    private final DayOfWeek weekStart;
+    // Position of epoch day 0 (a Thursday) within the week
+    private final int epochDayOffset;
+    private final String[] weekdayNames = new String[DAYS_PER_WEEK];
+    
+    public WorkCalendar(@Value("${clockin.calendar.week-start:MONDAY}") DayOfWeek weekStart,
+                        @Value("${clockin.calendar.zone:}") String zone) {
+        this.zone = zone == null || zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        this.weekStart = weekStart;
+        this.epochDayOffset = Math.floorMod(DayOfWeek.THURSDAY.getValue() - weekStart.getValue(), DAYS_PER_WEEK);
+        for (int i = 0; i < DAYS_PER_WEEK; i++) {
+            weekdayNames[i] = weekStart.plus(i).getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+        }
+    }
+    
+    public ZoneId getZone() {
+        return zone;
+    }
+    
+    public DayOfWeek getWeekStart() {
+        return weekStart;
+    }
+    
+    public LocalDateTime now() {
+        return LocalDateTime.now(zone);
+    }
+    
+    public LocalDate today() {
+        return LocalDate.now(zone);
+    }
+    
+    // Consecutive weeks have consecutive keys
+    public long weekKey(LocalDate date) {
+        return Math.floorDiv(date.toEpochDay() + epochDayOffset, DAYS_PER_WEEK);
+    }
+    
+    // 0 for the week start through 6
+    public int weekdayIndex(LocalDate date) {
+        return (int) Math.floorMod(date.toEpochDay() + epochDayOffset, DAYS_PER_WEEK);
+    }
+    
+    public LocalDate weekStartOf(long weekKey) {
+        return LocalDate.ofEpochDay(weekKey * DAYS_PER_WEEK - epochDayOffset);
+    }
+    
+    public LocalDate weekStartOf(LocalDate date) {
+        return date.minusDays(weekdayIndex(date));
+    }
+    
+    public LocalDate weekEndOf(LocalDate date) {
+        return weekStartOf(date).plusDays(DAYS_PER_WEEK - 1);
+    }
+    
+    public String weekdayName(int weekdayIndex) {
+        return weekdayNames[weekdayIndex];
+    }
+    
+    // e.g. "Jan 01 - Jan 07, 2024"
+    public String weekLabel(long weekKey) {
+        LocalDate start = weekStartOf(weekKey);
+        return start.format(WEEK_LABEL_START) + " - " + start.plusDays(DAYS_PER_WEEK - 1).format(WEEK_LABEL_END);
+    }
+}
@@ -0,0 +1,35 @@
+package com.clockin;
+
+import com.clockin.model.Employee;
+import com.clockin.model.TimeEntry;
+import com.clockin.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+class EmployeeClockinApplicationTests {
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    // Entity regions must exist in application.conf for the context to start at all; the lookup
+    // query region is only built on first use, so run the lookup to reach it too
+    @Test
+    void startsWithConfiguredCacheRegions() {
+        employeeRepository.findByFirstNameAndLastName("Nobody", "Here");
+        
+        CacheImplementor cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+        assertNotNull(cache.getRegion(Employee.class.getName()));
+        assertNotNull(cache.getRegion(TimeEntry.class.getName()));
+        assertNotNull(cache.getRegion(Employee.LOOKUP_CACHE_REGION));
+    }
+}
@@ -0,0 +1,82 @@
+package com.clockin.controller;
+
+import com.clockin.model.Employee;
+import com.clockin.model.TimeAlert;
+import com.clockin.model.TimeEntry;
+import com.clockin.repository.EmployeeRepository;
+import com.clockin.repository.TimeAlertRepository;
+import com.clockin.repository.TimeEntryRepository;
+import com.clockin.service.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:admin-tenant-tests;DB_CLOSE_DELAY=-1",
+        "clockin.tenants.site-b.employee-access-code=701",
+        "clockin.tenants.site-b.admin-access-code=801"
+})
+@AutoConfigureMockMvc
+class AdminControllerTenantTests {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+    
+    @Autowired
+    private TimeAlertRepository timeAlertRepository;
+    
+    private Long alertId;
+    
+    @BeforeEach
+    void raiseAlertInDefaultTenant() {
+        alertId = TenantContext.callAs(TenantContext.DEFAULT_TENANT, () -> {
+            Employee employee = employeeRepository.save(new Employee("Alert" + System.nanoTime(), "Owner"));
+            TimeEntry entry = timeEntryRepository.save(new TimeEntry(employee, LocalDateTime.now().minusHours(14)));
+            TimeAlert alert = new TimeAlert(TimeAlert.Type.FORGOTTEN_CLOCK_OUT, entry,
+                    entry.getClockInTime().toLocalDate(), 14.0, LocalDateTime.now());
+            return timeAlertRepository.save(alert).getId();
+        });
+    }
+    
+    @Test
+    void anotherSitesAdminCannotDismissTheAlert() throws Exception {
+        mockMvc.perform(dismiss(alertId)
+                        .header(TenantFilter.TENANT_HEADER, "site-b")
+                        .param("accessCode", "801"))
+                .andExpect(status().isNotFound());
+        
+        assertNull(timeAlertRepository.findById(alertId).orElseThrow().getResolvedAt());
+    }
+    
+    @Test
+    void theOwningSitesAdminDismissesTheAlert() throws Exception {
+        mockMvc.perform(dismiss(alertId)
+                        .param("accessCode", "888"))
+                .andExpect(status().isOk());
+        
+        assertNotNull(timeAlertRepository.findById(alertId).orElseThrow().getResolvedAt());
+    }
+    
+    // TenantFilter only binds /api/ servlet paths, which MockMvc leaves empty unless told
+    private static MockHttpServletRequestBuilder dismiss(Long alertId) {
+        String path = "/api/admin/alerts/" + alertId + "/dismiss";
+        return post(path).servletPath(path);
+    }
+}
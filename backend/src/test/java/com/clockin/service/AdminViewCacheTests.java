@@ -0,0 +1,44 @@
+package com.clockin.service;
+
+import com.clockin.dto.AdminSummaryResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:admin-view-cache-tests;DB_CLOSE_DELAY=-1")
+class AdminViewCacheTests {
+    
+    @Autowired
+    private TimeEntryService timeEntryService;
+    
+    @Autowired
+    private AdminViewCache adminViewCache;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Test
+    void summaryCachedBeforeAClockInCommitsIsNotServedAfterIt() {
+        TenantContext.runAs(TenantContext.DEFAULT_TENANT, () -> {
+            AdminSummaryResponse before = timeEntryService.getAdminSummary();
+            assertSame(before, timeEntryService.getAdminSummary());
+            long epochBefore = adminViewCache.viewEpoch();
+            
+            timeEntryService.clockIn("Cache", "Epoch");
+            
+            // A read that started before the clock-in committed and finished after its eviction
+            cacheManager.getCache(AdminViewCache.SUMMARY).put(List.of(TenantContext.DEFAULT_TENANT, epochBefore), before);
+            
+            AdminSummaryResponse after = timeEntryService.getAdminSummary();
+            assertNotSame(before, after);
+            assertEquals(before.getCurrentlyActive() + 1, after.getCurrentlyActive());
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package com.clockin.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:clock-in-concurrency;DB_CLOSE_DELAY=-1")
+class ClockInConcurrencyTests {
+    
+    private static final int CLOCK_INS = 1000;
+    
+    @Autowired
+    private TimeEntryService timeEntryService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void concurrentClockInsOpenExactlyOneSession() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        
+        for (int i = 0; i < CLOCK_INS; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    TenantContext.callAs(TenantContext.DEFAULT_TENANT, () -> timeEntryService.clockIn("Race", "Condition"));
+                    accepted.incrementAndGet();
+                } catch (ClockConflictException e) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(1, TimeUnit.MINUTES));
+        
+        assertEquals(1, accepted.get());
+        assertEquals(CLOCK_INS - 1, conflicts.get());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM time_entries " +
+                "WHERE first_name = 'Race' AND last_name = 'Condition' AND is_active = true", Integer.class));
+    }
+}
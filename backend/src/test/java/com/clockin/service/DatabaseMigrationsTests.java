@@ -0,0 +1,32 @@
+package com.clockin.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:database-migrations-tests;DB_CLOSE_DELAY=-1")
+class DatabaseMigrationsTests {
+    
+    @Autowired
+    private DatabaseMigrations databaseMigrations;
+    
+    @Autowired
+    private TimeEntryService timeEntryService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void rerunningNeverMovesASequenceBackwards() {
+        TenantContext.callAs(TenantContext.DEFAULT_TENANT, () -> timeEntryService.clockIn("Sequence", "Owner"));
+        jdbcTemplate.execute("ALTER SEQUENCE time_entries_seq RESTART WITH 100000");
+        
+        databaseMigrations.migrate();
+        
+        assertEquals(100000L, jdbcTemplate.queryForObject("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES " +
+                "WHERE SEQUENCE_NAME = 'TIME_ENTRIES_SEQ'", Long.class));
+    }
+}
@@ -0,0 +1,47 @@
+package com.clockin.service;
+
+import com.clockin.dto.PunchRequest;
+import com.clockin.dto.TimeEntryResponse;
+import com.clockin.model.EmployeeSummary;
+import com.clockin.repository.EmployeeSummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:employee-summary-tests;DB_CLOSE_DELAY=-1")
+class EmployeeSummaryServiceTests {
+    
+    @Autowired
+    private TimeEntryService timeEntryService;
+    
+    @Autowired
+    private EmployeeSummaryRepository employeeSummaryRepository;
+    
+    @Test
+    void clockOutRebuildsAMissingRollupRowWithItsHours() {
+        TenantContext.runAs(TenantContext.DEFAULT_TENANT, () -> {
+            LocalDateTime clockIn = LocalDateTime.now().minusHours(2).withNano(0);
+            TimeEntryResponse opened = timeEntryService.applyPunches(List.of(
+                    new PunchRequest("Lost", "Rollup", PunchRequest.CLOCK_IN, clockIn))).get(0).getEntry();
+            EmployeeSummary lost = employeeSummaryRepository.findAll().stream()
+                    .filter(summary -> "Lost".equals(summary.getFirstName()))
+                    .findFirst().orElseThrow();
+            employeeSummaryRepository.delete(lost);
+            
+            TimeEntryResponse closed = timeEntryService.clockOut("Lost", "Rollup");
+            
+            EmployeeSummary rebuilt = employeeSummaryRepository.findByEmployeeId(lost.getEmployeeId()).orElseThrow();
+            assertEquals(1L, rebuilt.getTotalEntries());
+            assertEquals(0L, rebuilt.getActiveEntries());
+            assertTrue(closed.getTotalHours() >= 2.0);
+            assertEquals(closed.getTotalHours(), rebuilt.getTotalHours());
+            assertEquals(opened.getId(), rebuilt.getLatestEntryId());
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.clockin.service;
+
+import com.clockin.dto.PunchRequest;
+import com.clockin.dto.PunchResult;
+import com.clockin.dto.TimeEntryResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:punch-batch-tests;DB_CLOSE_DELAY=-1")
+class PunchBatchTests {
+    
+    @Autowired
+    private TimeEntryService timeEntryService;
+    
+    @Test
+    void clockInAndOutInOneBatchReportEachPunchAsApplied() {
+        LocalDateTime clockIn = LocalDateTime.now().minusHours(2).withNano(0);
+        LocalDateTime clockOut = clockIn.plusHours(1);
+        List<PunchResult> results = TenantContext.callAs(TenantContext.DEFAULT_TENANT, () -> timeEntryService.applyPunches(List.of(
+                new PunchRequest("Same", "Batch", PunchRequest.CLOCK_IN, clockIn),
+                new PunchRequest("Same", "Batch", PunchRequest.CLOCK_OUT, clockOut))));
+        
+        TimeEntryResponse opened = results.get(0).getEntry();
+        assertEquals(PunchResult.ACCEPTED, results.get(0).getStatus());
+        assertTrue(opened.getIsActive());
+        assertNull(opened.getClockOutTime());
+        assertNull(opened.getTotalHours());
+        
+        TimeEntryResponse closed = results.get(1).getEntry();
+        assertEquals(PunchResult.ACCEPTED, results.get(1).getStatus());
+        assertEquals(false, closed.getIsActive());
+        assertEquals(clockOut, closed.getClockOutTime());
+        assertEquals(1.0, closed.getTotalHours());
+        
+        assertNotNull(opened.getId());
+        assertEquals(opened.getId(), closed.getId());
+    }
+}
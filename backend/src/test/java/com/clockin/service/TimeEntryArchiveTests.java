@@ -0,0 +1,77 @@
+package com.clockin.service;
+
+import com.clockin.dto.ArchivedTimeEntry;
+import com.clockin.dto.TimeEntryResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:time-entry-archive-tests;DB_CLOSE_DELAY=-1",
+        "clockin.archive.enabled=true"
+})
+class TimeEntryArchiveTests {
+    
+    @TempDir
+    static Path directory;
+    
+    @DynamicPropertySource
+    static void archiveDirectory(DynamicPropertyRegistry registry) {
+        registry.add("clockin.archive.directory", directory::toString);
+    }
+    
+    @Autowired
+    private TimeEntryArchive timeEntryArchive;
+    
+    @Test
+    void readsOnlyPartsThatHoldTheEmployee() throws Exception {
+        YearMonth month = YearMonth.of(2020, 1);
+        LocalDateTime clockIn = month.atDay(6).atTime(8, 0);
+        timeEntryArchive.write(month, List.of(
+                new ArchivedTimeEntry(1L, 10L, "Ann", "Archived", clockIn, clockIn.plusHours(8), 8.0),
+                new ArchivedTimeEntry(2L, 12L, "Bob", "Archived", clockIn, clockIn.plusHours(4), 4.0)));
+        
+        assertTrue(timeEntryArchive.hasEntries(10L));
+        assertFalse(timeEntryArchive.hasEntries(11L));
+        assertFalse(timeEntryArchive.hasEntries(13L));
+        
+        List<TimeEntryResponse> page = timeEntryArchive.findPage(12L, null, 10);
+        assertEquals(1, page.size());
+        assertEquals(2L, page.get(0).getId());
+    }
+    
+    @Test
+    void indexesPartsWrittenWithoutAnIndexOnStartup() throws Exception {
+        YearMonth month = YearMonth.of(2019, 6);
+        LocalDateTime clockIn = month.atDay(3).atTime(9, 0);
+        timeEntryArchive.write(month, List.of(
+                new ArchivedTimeEntry(3L, 20L, "Cy", "Archived", clockIn, clockIn.plusHours(6), 6.0)));
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path index : files.filter(file -> file.toString().endsWith(".employees")).toList()) {
+                Files.delete(index);
+            }
+        }
+        
+        timeEntryArchive.open();
+        
+        assertTrue(timeEntryArchive.hasEntries(20L));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.anyMatch(file -> file.getFileName().toString().startsWith("time-entries-2019-06.")
+                    && file.toString().endsWith(".employees")));
+        }
+    }
+}
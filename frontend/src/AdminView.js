@@ -1,7 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import axios from 'axios';
 import WeeklyView from './WeeklyView';
-import { apiUrl } from './config';
+import { apiUrl, tenant } from './config';
 
 function AdminView({ onLogout }) {
   const [employees, setEmployees] = useState([]);
@@ -13,17 +13,56 @@ function AdminView({ onLogout }) {
   const [accessCode] = useState('888');
 
   useEffect(() => {
-    loadAdminData();
+    // Live updates: (re)load everything whenever the stream connects, then apply its small deltas.
+    // EventSource cannot send headers, so the tenant goes in the query string.
+    const tenantParam = tenant ? `&tenant=${encodeURIComponent(tenant)}` : '';
+    const source = new EventSource(`${apiUrl}/api/admin/events?accessCode=${accessCode}${tenantParam}`);
+    source.onopen = () => loadAdminData();
+    source.onerror = () => {
+      // Closed means the server refused the stream; fall back to a one-off load
+      if (source.readyState === EventSource.CLOSED) {
+        loadAdminData();
+      }
+    };
+    source.addEventListener('update', (event) => applyUpdate(JSON.parse(event.data)));
+    return () => source.close();
   }, []);
 
+  const applyUpdate = (update) => {
+    setSummary(update.summary);
+    setEmployees((current) => {
+      const next = [...current];
+      let added = false;
+      update.employees.forEach((employee) => {
+        const index = next.findIndex((e) => e.firstName === employee.firstName && e.lastName === employee.lastName);
+        if (index >= 0) {
+          next[index] = employee;
+        } else {
+          next.push(employee);
+          added = true;
+        }
+      });
+      if (added) {
+        next.sort((a, b) => a.firstName.localeCompare(b.firstName) || a.lastName.localeCompare(b.lastName));
+      }
+      return next;
+    });
+  };
+
   const loadAdminData = async () => {
     try {
-      setLoading(true);
       setError('');
 
-      // Load all employees data
-      const employeesResponse = await axios.get(`${apiUrl}/api/admin/all-employees?accessCode=${accessCode}`);
-      setEmployees(employeesResponse.data);
+      // Load all employees data, one page at a time
+      const allEmployees = [];
+      let cursor = null;
+      do {
+        const cursorParam = cursor ? `&cursor=${encodeURIComponent(cursor)}` : '';
+        const employeesResponse = await axios.get(`${apiUrl}/api/admin/all-employees?accessCode=${accessCode}${cursorParam}`);
+        allEmployees.push(...employeesResponse.data.items);
+        cursor = employeesResponse.data.nextCursor;
+      } while (cursor);
+      setEmployees(allEmployees);
 
       // Load summary
       const summaryResponse = await axios.get(`${apiUrl}/api/admin/summary?accessCode=${accessCode}`);
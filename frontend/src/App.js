@@ -97,7 +97,7 @@ function App() {
   const loadHistory = async () => {
     try {
       const response = await axios.get(`${apiUrl}/api/time-entries/history/${user.firstName}/${user.lastName}?accessCode=${formData.accessCode}`);
-      setHistory(response.data);
+      setHistory(response.data.items);
     } catch (err) {
       console.error('Failed to load history:', err);
     }
@@ -8,4 +8,7 @@ const config = {
 };
 
 const environment = process.env.NODE_ENV || 'development';
-export const apiUrl = config[environment].apiUrl; 
\ No newline at end of file
+export const apiUrl = config[environment].apiUrl;
+
+// Site this frontend serves; empty uses the backend's default tenant
+export const tenant = process.env.REACT_APP_TENANT || '';
@@ -2,6 +2,12 @@ import React from 'react';
 import ReactDOM from 'react-dom/client';
 import './index.css';
 import App from './App';
+import axios from 'axios';
+import { tenant } from './config';
+
+if (tenant) {
+  axios.defaults.headers.common['X-Tenant-Id'] = tenant;
+}
 
 const root = ReactDOM.createRoot(document.getElementById('root'));
 root.render(